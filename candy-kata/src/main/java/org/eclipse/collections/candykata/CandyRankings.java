@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Comparator;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * Ranks candies by how often they occur without sorting every distinct candy. The {@code k} largest counts are kept
+ * in a bounded min-heap, and anything tied with the smallest of them is also in the top {@code k}, as with
+ * {@link Bag#topOccurrences(int)}.
+ */
+public final class CandyRankings
+{
+    private static final Candy[] CANDIES = Candy.values();
+
+    private CandyRankings()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the same items and counts as {@link Bag#topOccurrences(int)}, most frequent first. Only the
+     * {@code k} or more items in the result are sorted.
+     */
+    public static <T> MutableList<ObjectIntPair<T>> topOccurrences(Bag<T> bag, int k)
+    {
+        CandyRankings.checkK(k);
+        MutableList<ObjectIntPair<T>> result = Lists.mutable.empty();
+        if (k == 0 || bag.isEmpty())
+        {
+            return result;
+        }
+        int threshold = new TopCounts(Math.min(k, bag.sizeDistinct())).thresholdOf(bag);
+        bag.forEachWithOccurrences((each, count) ->
+        {
+            if (count >= threshold)
+            {
+                result.add(PrimitiveTuples.pair(each, count));
+            }
+        });
+        return result.sortThis(Comparator.comparingInt(ObjectIntPair<T>::getTwo).reversed());
+    }
+
+    /**
+     * Returns the candies that are in the top {@code k} of every bag, ties included. Each bag is visited once, and
+     * the remaining bags are skipped as soon as no candy is common to all bags seen so far.
+     */
+    public static MutableSet<Candy> commonInTop(Iterable<? extends Bag<Candy>> bags, int k)
+    {
+        CandyRankings.checkK(k);
+        boolean[] common = new boolean[CANDIES.length];
+        boolean[] inTop = new boolean[CANDIES.length];
+        TopCounts topCounts = new TopCounts(Math.min(k, CANDIES.length));
+        boolean first = true;
+        int remaining = 0;
+        for (Bag<Candy> bag : bags)
+        {
+            if (k == 0 || bag.isEmpty())
+            {
+                return Sets.mutable.empty();
+            }
+            int threshold = topCounts.thresholdOf(bag);
+            bag.forEachWithOccurrences((candy, count) -> inTop[candy.ordinal()] = count >= threshold);
+            remaining = 0;
+            for (int ordinal = 0; ordinal < CANDIES.length; ordinal++)
+            {
+                common[ordinal] = inTop[ordinal] && (first || common[ordinal]);
+                inTop[ordinal] = false;
+                if (common[ordinal])
+                {
+                    remaining++;
+                }
+            }
+            if (remaining == 0)
+            {
+                return Sets.mutable.empty();
+            }
+            first = false;
+        }
+        MutableSet<Candy> result = Sets.mutable.empty();
+        for (int ordinal = 0; ordinal < CANDIES.length; ordinal++)
+        {
+            if (common[ordinal])
+            {
+                result.add(CANDIES[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    private static void checkK(int k)
+    {
+        if (k < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of k < 0");
+        }
+    }
+
+    /**
+     * A min-heap of at most {@code k} counts, reused from bag to bag. Callers cap {@code k} at the number of distinct
+     * items a bag can have, so a large {@code k} does not allocate a large heap.
+     */
+    private static final class TopCounts
+    {
+        private final int[] heap;
+        private int size;
+
+        private TopCounts(int k)
+        {
+            this.heap = new int[k];
+        }
+
+        /**
+         * Returns the smallest count an item of {@code bag} needs to be in its top {@code k}.
+         */
+        private int thresholdOf(Bag<?> bag)
+        {
+            this.size = 0;
+            bag.forEachWithOccurrences((each, count) -> this.offer(count));
+            return this.heap[0];
+        }
+
+        private void offer(int count)
+        {
+            if (this.size < this.heap.length)
+            {
+                int child = this.size++;
+                while (child > 0)
+                {
+                    int parent = (child - 1) >>> 1;
+                    if (this.heap[parent] <= count)
+                    {
+                        break;
+                    }
+                    this.heap[child] = this.heap[parent];
+                    child = parent;
+                }
+                this.heap[child] = count;
+            }
+            else if (count > this.heap[0])
+            {
+                int parent = 0;
+                while (true)
+                {
+                    int child = 2 * parent + 1;
+                    if (child >= this.size)
+                    {
+                        break;
+                    }
+                    if (child + 1 < this.size && this.heap[child + 1] < this.heap[child])
+                    {
+                        child++;
+                    }
+                    if (this.heap[child] >= count)
+                    {
+                        break;
+                    }
+                    this.heap[parent] = this.heap[child];
+                    parent = child;
+                }
+                this.heap[parent] = count;
+            }
+        }
+    }
+}
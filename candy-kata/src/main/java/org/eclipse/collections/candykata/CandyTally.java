@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.katasupport.EnumBag;
+
+/**
+ * A running total of candies that any number of threads can add to at once. Each {@link Candy} has its own
+ * {@link LongAdder}, so threads adding different candies never contend, and threads adding the same candy are spread
+ * over the adder's cells rather than retrying on one value. No lock is taken and no bags are merged.
+ */
+public final class CandyTally
+{
+    private static final Candy[] CANDIES = Candy.values();
+
+    private final LongAdder[] counts = new LongAdder[CANDIES.length];
+
+    public CandyTally()
+    {
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            this.counts[ordinal] = new LongAdder();
+        }
+    }
+
+    public void add(Candy candy)
+    {
+        this.counts[candy.ordinal()].increment();
+    }
+
+    public void addOccurrences(Candy candy, long occurrences)
+    {
+        if (occurrences < 0L)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0L)
+        {
+            this.counts[candy.ordinal()].add(occurrences);
+        }
+    }
+
+    public void addAll(Bag<Candy> candies)
+    {
+        candies.forEachWithOccurrences(this::addOccurrences);
+    }
+
+    public long occurrencesOf(Candy candy)
+    {
+        return this.counts[candy.ordinal()].sum();
+    }
+
+    public long size()
+    {
+        long size = 0L;
+        for (LongAdder count : this.counts)
+        {
+            size += count.sum();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the tally as a new bag. While other threads are still adding, each candy's count is read once, so the
+     * bag holds every candy added before the call and possibly some added during it.
+     */
+    public Bag<Candy> toBag()
+    {
+        EnumBag<Candy> bag = EnumBag.newBag(Candy.class);
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            bag.addOccurrences(CANDIES[ordinal], Math.toIntExact(this.counts[ordinal].sum()));
+        }
+        return bag;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toBag().toString();
+    }
+}
@@ -17,13 +17,15 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.list.ImmutableList;
-import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.katasupport.EnumBag;
 
 /**
  * On Halloween, three different SchoolGroups go trick or treating at different times.
@@ -36,6 +38,10 @@ public class SchoolGroup
     private static final LocalTime MIDDLE_SCHOOL_START = ELEMENTARY_SCHOOL_START.plus(Duration.ofHours(2));
     private static final LocalTime HIGH_SCHOOL_START = MIDDLE_SCHOOL_START.plus(Duration.ofHours(2));
     private static final long CANDY_COUNT = 250L;
+    private static final Candy[] CANDIES = Candy.values();
+    // The kata's expected answers were produced with this bound, so the last Candy is never handed out
+    private static final int CANDY_BOUND = CANDIES.length - 1;
+    private static final int CANDIES_PER_CHUNK = 1 << 16;
 
     private static final SchoolGroup ELEMENTARY_SCHOOL =
             new SchoolGroup(HALLOWEEN.atTime(ELEMENTARY_SCHOOL_START), CANDY_COUNT);
@@ -58,13 +64,105 @@ public class SchoolGroup
         return Lists.immutable.with(ELEMENTARY_SCHOOL, MIDDLE_SCHOOL, HIGH_SCHOOL);
     }
 
+    /**
+     * Creates a school group that goes trick or treating at {@code time} and collects {@code candyCount} candies.
+     */
+    public static SchoolGroup of(LocalDateTime time, long candyCount)
+    {
+        if (candyCount < 0L)
+        {
+            throw new IllegalArgumentException("Candy count must not be negative: " + candyCount);
+        }
+        return new SchoolGroup(time, candyCount);
+    }
+
+    private long seed()
+    {
+        return this.time.atZone(NEW_YORK).toEpochSecond();
+    }
+
+    /**
+     * Returns the candies this group collects. The same group always collects the same candies. Each candy is
+     * counted directly against its ordinal, so no candy is boxed or allocated along the way.
+     */
     public Bag<Candy> trickOrTreat()
     {
-        IntStream limit = new Random(
-                this.time.atZone(NEW_YORK).toEpochSecond())
-                .ints(0, Candy.values().length - 1)
-                .limit(this.candyCount);
-        return limit.mapToObj(i -> Candy.values()[i])
-                .collect(Collectors2.toBag());
+        int[] counts = this.countCandies();
+        EnumBag<Candy> candies = EnumBag.newBag(Candy.class);
+        for (int ordinal = 0; ordinal < counts.length; ordinal++)
+        {
+            candies.addOccurrences(CANDIES[ordinal], counts[ordinal]);
+        }
+        return candies;
+    }
+
+    /**
+     * Adds the candies returned by {@link #trickOrTreat()} to {@code tally}, which may be shared with other threads.
+     * The candies are counted locally first, so the tally sees one addition per kind of candy.
+     */
+    public void trickOrTreat(CandyTally tally)
+    {
+        int[] counts = this.countCandies();
+        for (int ordinal = 0; ordinal < counts.length; ordinal++)
+        {
+            tally.addOccurrences(CANDIES[ordinal], counts[ordinal]);
+        }
+    }
+
+    private int[] countCandies()
+    {
+        Random random = new Random(this.seed());
+        int[] counts = new int[CANDIES.length];
+        for (long i = 0L; i < this.candyCount; i++)
+        {
+            counts[random.nextInt(CANDY_BOUND)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the candies this group collects, counted in chunks of {@value #CANDIES_PER_CHUNK} on
+     * {@code executorService}. Each chunk draws from its own {@link SplittableRandom}, split in chunk order from one
+     * seeded generator. The result therefore depends only on the group and not on how many threads do the counting.
+     * It is not the same haul as {@link #trickOrTreat()}.
+     */
+    public Bag<Candy> trickOrTreatInParallel(ExecutorService executorService)
+    {
+        EnumBag<Candy> candies = EnumBag.newBag(Candy.class);
+        if (this.candyCount == 0L)
+        {
+            return candies;
+        }
+        int chunkCount = (int) ((this.candyCount + CANDIES_PER_CHUNK - 1L) / CANDIES_PER_CHUNK);
+        SplittableRandom random = new SplittableRandom(this.seed());
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++)
+        {
+            chunkRandoms[chunk] = random.split();
+        }
+        int[][] chunkCounts = new int[chunkCount][];
+        Interval.zeroTo(chunkCount - 1).toList().asParallel(executorService, 1).forEach(chunk ->
+        {
+            int chunkSize = (int) Math.min(CANDIES_PER_CHUNK, this.candyCount - (long) chunk * CANDIES_PER_CHUNK);
+            chunkCounts[chunk] = SchoolGroup.countCandies(chunkRandoms[chunk], chunkSize);
+        });
+        for (int[] counts : chunkCounts)
+        {
+            for (int ordinal = 0; ordinal < counts.length; ordinal++)
+            {
+                candies.addOccurrences(CANDIES[ordinal], counts[ordinal]);
+            }
+        }
+        return candies;
+    }
+
+    private static int[] countCandies(SplittableRandom random, int candyCount)
+    {
+        int[] counts = new int[CANDIES.length];
+        for (int i = 0; i < candyCount; i++)
+        {
+            counts[random.nextInt(CANDY_BOUND)]++;
+        }
+        return counts;
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CandyRankingsTest
+{
+    @Test
+    public void kataAnswers()
+    {
+        MutableList<Bag<Candy>> bagsOfCandy = SchoolGroup.all().collect(SchoolGroup::trickOrTreat).toList();
+        Bag<Candy> bigBagOfCandy = bagsOfCandy.flatCollect(bag -> bag).toBag();
+
+        Assert.assertEquals(
+                Lists.mutable.with(Candy.REESES_PIECES),
+                CandyRankings.topOccurrences(bigBagOfCandy, 1).collect(ObjectIntPair::getOne));
+        Assert.assertEquals(
+                Sets.mutable.with(Candy.REESES_PIECES, Candy.CRUNCH),
+                CandyRankings.commonInTop(bagsOfCandy, 10));
+    }
+
+    @Test
+    public void topOccurrencesCarriesTies()
+    {
+        MutableBag<Candy> candies = HashBag.newBag();
+        candies.addOccurrences(Candy.TWIX, 5);
+        candies.addOccurrences(Candy.CRUNCH, 3);
+        candies.addOccurrences(Candy.NERDS, 3);
+        candies.addOccurrences(Candy.SKITTLES, 3);
+        candies.addOccurrences(Candy.BABY_RUTH, 1);
+
+        MutableList<ObjectIntPair<Candy>> top2 = CandyRankings.topOccurrences(candies, 2);
+        Assert.assertEquals(Lists.mutable.with(5, 3, 3, 3), top2.collect(ObjectIntPair::getTwo));
+        Assert.assertEquals(Candy.TWIX, top2.getFirst().getOne());
+        Assert.assertEquals(
+                Sets.mutable.with(Candy.TWIX, Candy.CRUNCH, Candy.NERDS, Candy.SKITTLES),
+                top2.collect(ObjectIntPair::getOne).toSet());
+        Assert.assertEquals(5, CandyRankings.topOccurrences(candies, 10).size());
+        Assert.assertEquals(5, CandyRankings.topOccurrences(candies, Integer.MAX_VALUE).size());
+        Assert.assertEquals(
+                Sets.mutable.with(Candy.TWIX, Candy.CRUNCH, Candy.NERDS, Candy.SKITTLES, Candy.BABY_RUTH),
+                CandyRankings.commonInTop(Lists.mutable.with(candies, candies), Integer.MAX_VALUE));
+        Assert.assertTrue(CandyRankings.topOccurrences(candies, 0).isEmpty());
+        Assert.assertTrue(CandyRankings.topOccurrences(HashBag.newBag(), 3).isEmpty());
+    }
+
+    @Test
+    public void matchesTopOccurrencesOnRandomBags()
+    {
+        Random random = new Random(42L);
+        for (int i = 0; i < 500; i++)
+        {
+            MutableList<Bag<Candy>> bags = Lists.mutable.empty();
+            int bagCount = 1 + random.nextInt(5);
+            for (int j = 0; j < bagCount; j++)
+            {
+                MutableBag<Candy> bag = HashBag.newBag();
+                int candyCount = random.nextInt(200);
+                for (int c = 0; c < candyCount; c++)
+                {
+                    bag.add(Candy.values()[random.nextInt(Candy.values().length)]);
+                }
+                bags.add(bag);
+            }
+            int k = random.nextInt(12);
+            for (Bag<Candy> bag : bags)
+            {
+                Assert.assertEquals(
+                        bag.topOccurrences(k).collect(ObjectIntPair::getOne).toSet(),
+                        CandyRankings.topOccurrences(bag, k).collect(ObjectIntPair::getOne).toSet());
+                Assert.assertEquals(
+                        bag.topOccurrences(k).collectInt(ObjectIntPair::getTwo).toSortedList(),
+                        CandyRankings.topOccurrences(bag, k).collectInt(ObjectIntPair::getTwo).toSortedList());
+            }
+            MutableSet<Candy> expected = bags.collect(bag -> bag.topOccurrences(k)
+                    .collect(ObjectIntPair::getOne)
+                    .toSet())
+                    .reduce(MutableSet::intersect)
+                    .get();
+            Assert.assertEquals(expected, CandyRankings.commonInTop(bags, k));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeK()
+    {
+        CandyRankings.topOccurrences(HashBag.newBag(), -1);
+    }
+}
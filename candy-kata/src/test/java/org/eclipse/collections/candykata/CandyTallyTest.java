@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CandyTallyTest
+{
+    private static final int THREADS = 64;
+    private static final int GROUPS_PER_THREAD = 50;
+
+    @Test
+    public void tallyOfKataGroups()
+    {
+        CandyTally tally = new CandyTally();
+        SchoolGroup.all().forEach(schoolGroup -> schoolGroup.trickOrTreat(tally));
+
+        Bag<Candy> expected = SchoolGroup.all().flatCollect(SchoolGroup::trickOrTreat).toBag();
+        Assert.assertEquals(expected, tally.toBag());
+        Assert.assertEquals(750L, tally.size());
+        Assert.assertEquals(expected.occurrencesOf(Candy.REESES_PIECES), tally.occurrencesOf(Candy.REESES_PIECES));
+    }
+
+    @Test
+    public void addAndAddAll()
+    {
+        CandyTally tally = new CandyTally();
+        tally.add(Candy.TWIX);
+        tally.addOccurrences(Candy.TWIX, 2L);
+        tally.addAll(HashBag.newBagWith(Candy.CRUNCH, Candy.TWIX));
+
+        Assert.assertEquals(4L, tally.occurrencesOf(Candy.TWIX));
+        Assert.assertEquals(1L, tally.occurrencesOf(Candy.CRUNCH));
+        Assert.assertEquals(0L, tally.occurrencesOf(Candy.NERDS));
+        Assert.assertEquals(5L, tally.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addNegativeOccurrences()
+    {
+        new CandyTally().addOccurrences(Candy.TWIX, -1L);
+    }
+
+    @Test
+    public void countsAreExactUnderContention() throws Exception
+    {
+        MutableList<SchoolGroup> schoolGroups = Interval.zeroTo(THREADS * GROUPS_PER_THREAD - 1)
+                .collect(minute -> SchoolGroup.of(
+                        LocalDateTime.of(2018, Month.OCTOBER, 31, 15, 0).plusMinutes(minute),
+                        1_000L + minute))
+                .toList();
+        MutableBag<Candy> expected = HashBag.newBag();
+        schoolGroups.forEach(schoolGroup -> expected.addAllIterable(schoolGroup.trickOrTreat()));
+
+        CandyTally tally = new CandyTally();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            MutableList<Future<?>> futures = Lists.mutable.empty();
+            for (int thread = 0; thread < THREADS; thread++)
+            {
+                int from = thread * GROUPS_PER_THREAD;
+                futures.add(executorService.submit(() ->
+                {
+                    start.await();
+                    for (int i = from; i < from + GROUPS_PER_THREAD; i++)
+                    {
+                        SchoolGroup schoolGroup = schoolGroups.get(i);
+                        if (i % 2 == 0)
+                        {
+                            schoolGroup.trickOrTreat(tally);
+                        }
+                        else
+                        {
+                            schoolGroup.trickOrTreat().forEach(tally::add);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(expected.size(), tally.size());
+        Assert.assertEquals(expected, tally.toBag());
+    }
+}
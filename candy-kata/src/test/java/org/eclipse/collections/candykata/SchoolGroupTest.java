@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.candykata;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.impl.collector.Collectors2;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SchoolGroupTest
+{
+    private static final LocalDateTime EVENING = LocalDateTime.of(2018, Month.OCTOBER, 31, 18, 0);
+
+    @Test
+    public void trickOrTreatMatchesTheOriginalStream()
+    {
+        for (SchoolGroup schoolGroup : SchoolGroup.all())
+        {
+            Bag<Candy> candies = schoolGroup.trickOrTreat();
+            Assert.assertEquals(250, candies.size());
+            Assert.assertEquals(candies, schoolGroup.trickOrTreat());
+        }
+
+        SchoolGroup evening = SchoolGroup.of(EVENING, 10_000L);
+        Bag<Candy> expected = new Random(EVENING.atZone(SchoolGroup.NEW_YORK).toEpochSecond())
+                .ints(0, Candy.values().length - 1)
+                .limit(10_000L)
+                .mapToObj(i -> Candy.values()[i])
+                .collect(Collectors2.toBag());
+        Assert.assertEquals(expected, evening.trickOrTreat());
+    }
+
+    @Test
+    public void trickOrTreatInParallelIsReproducible()
+    {
+        SchoolGroup schoolGroup = SchoolGroup.of(EVENING, 1_000_000L);
+        ExecutorService oneThread = Executors.newSingleThreadExecutor();
+        ExecutorService fourThreads = Executors.newFixedThreadPool(4);
+        try
+        {
+            Bag<Candy> candies = schoolGroup.trickOrTreatInParallel(fourThreads);
+            Assert.assertEquals(1_000_000, candies.size());
+            Assert.assertEquals(0, candies.occurrencesOf(Candy.values()[Candy.values().length - 1]));
+            Assert.assertEquals(candies, schoolGroup.trickOrTreatInParallel(fourThreads));
+            Assert.assertEquals(candies, schoolGroup.trickOrTreatInParallel(oneThread));
+            Assert.assertTrue(SchoolGroup.of(EVENING, 0L).trickOrTreatInParallel(oneThread).isEmpty());
+        }
+        finally
+        {
+            oneThread.shutdownNow();
+            fourThreads.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCandyCount()
+    {
+        SchoolGroup.of(EVENING, -1L);
+    }
+}
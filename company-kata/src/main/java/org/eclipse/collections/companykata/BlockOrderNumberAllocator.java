@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link OrderNumberAllocator} that reserves a block of consecutive order numbers per thread, and hands out numbers
+ * from that block without any shared writes. Threads only meet on one atomic counter once per block, so creating
+ * orders on many cores does not contend on a single cache line.
+ * <p>
+ * A single thread gets consecutive order numbers. Numbers from different threads interleave by block, and numbers
+ * left in the block of a thread that stops creating orders are never used. It is meant to be given to a
+ * {@link Company} whose orders are created with {@link Company#newOrder()} on many threads; orders created with
+ * {@link Order#Order()} keep a single {@link SequentialOrderNumberAllocator}.
+ */
+public final class BlockOrderNumberAllocator implements OrderNumberAllocator
+{
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final int blockSize;
+    private final AtomicLong nextBlockStart = new AtomicLong(1L);
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+    private volatile int generation;
+
+    public BlockOrderNumberAllocator()
+    {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockOrderNumberAllocator(int blockSize)
+    {
+        if (blockSize < 1)
+        {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public int nextOrderNumber()
+    {
+        Block block = this.blocks.get();
+        int generation = this.generation;
+        if (block.next == block.end || block.generation != generation)
+        {
+            long start = this.nextBlockStart.getAndAdd(this.blockSize);
+            if (start + this.blockSize - 1L > Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("No order numbers left");
+            }
+            block.next = (int) start;
+            block.end = (int) start + this.blockSize;
+            block.generation = generation;
+        }
+        return block.next++;
+    }
+
+    /**
+     * Starts numbering from 1 again. Blocks reserved before the reset are dropped the next time their thread asks for
+     * an order number.
+     */
+    @Override
+    public synchronized void reset()
+    {
+        this.nextBlockStart.set(1L);
+        this.generation++;
+        OrderDeliveries.allocatorReset(this);
+    }
+
+    private static final class Block
+    {
+        private int next;
+        private int end;
+        private int generation = -1;
+    }
+}
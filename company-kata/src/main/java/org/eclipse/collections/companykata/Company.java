@@ -10,26 +10,95 @@
 
 package org.eclipse.collections.companykata;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
 
 /**
- * A company has a {@link MutableList} of {@link Customer}s.  It has an array of {@link Supplier}s, and a name.
+ * A company has a {@link MutableList} of {@link Customer}s.  It has a {@link MutableList} of {@link Supplier}s, and a name.
+ * Customers are also indexed by name and by city, and suppliers are indexed by the names of the items they supply.
+ * <p>
+ * Customers, orders and line items may be added from many threads. Adding a customer or a supplier locks the company,
+ * while adding orders and line items only locks the customer they belong to, so threads working on different
+ * customers do not contend. A company created with {@link #newConcurrentCompany(String)} also returns snapshots from
+ * {@link #getCustomers()}, {@link Customer#getOrders()} and the other list views, so readers can safely run alongside
+ * writers. Other companies return live views, which are for single-threaded use.
+ * <p>
+ * Orders are numbered by an {@link OrderNumberAllocator}. By default a company shares the allocator used by
+ * {@link Order#Order()}. A company given its own allocator has its own sequence of order numbers, independent of other
+ * companies in the same JVM, and its orders must be created with {@link #newOrder()}.
  */
 public class Company
 {
     private final String name;
+    private final boolean concurrent;
     private final MutableList<Customer> customers = FastList.newList();
-
-    // Suppliers are array based. Refactor to a MutableList<Supplier>
-    private Supplier[] suppliers = new Supplier[0];
+    private final MutableList<Customer> customersView = this.customers.asUnmodifiable();
+    private final MutableMap<String, Customer> customersByName;
+    private final MutableListMultimap<String, Customer> customersByCity = FastListMultimap.newMultimap();
+    private final MutableList<Supplier> suppliers = FastList.newList();
+    private volatile Supplier[] supplierArray;
+    private final MutableListMultimap<String, Supplier> suppliersByItemName = FastListMultimap.newMultimap();
+    private volatile ImmutableList<CompanyListener> listeners = Lists.immutable.empty();
+    private final OrderNumberAllocator orderNumbers;
+    private final OrderDeliveries deliveries;
 
     public Company(String name)
+    {
+        this(name, Order.SHARED_ORDER_NUMBERS);
+    }
+
+    public Company(String name, OrderNumberAllocator orderNumbers)
+    {
+        this(name, false, orderNumbers);
+    }
+
+    private Company(String name, boolean concurrent, OrderNumberAllocator orderNumbers)
     {
         this.name = name;
+        this.concurrent = concurrent;
+        this.orderNumbers = orderNumbers;
+        this.deliveries = new OrderDeliveries(orderNumbers);
+        this.customersByName = concurrent ? ConcurrentHashMap.newMap() : UnifiedMap.newMap();
+    }
+
+    /**
+     * Creates a company whose customers, orders and line items can be read by some threads while others add to them.
+     * Reads return snapshots that are consistent per customer.
+     */
+    public static Company newConcurrentCompany(String name)
+    {
+        return Company.newConcurrentCompany(name, Order.SHARED_ORDER_NUMBERS);
+    }
+
+    public static Company newConcurrentCompany(String name, OrderNumberAllocator orderNumbers)
+    {
+        return new Company(name, true, orderNumbers);
+    }
+
+    public boolean isConcurrent()
+    {
+        return this.concurrent;
     }
 
     public String getName()
@@ -37,14 +106,140 @@ public class Company
         return this.name;
     }
 
+    /**
+     * Creates an order numbered by this company's {@link OrderNumberAllocator}. The order does not belong to any
+     * customer yet.
+     */
+    public Order newOrder()
+    {
+        return new Order(this, this.orderNumbers.nextOrderNumber());
+    }
+
+    public OrderNumberAllocator getOrderNumberAllocator()
+    {
+        return this.orderNumbers;
+    }
+
     public void addCustomer(Customer aCustomer)
     {
-        this.customers.add(aCustomer);
+        synchronized (this)
+        {
+            synchronized (aCustomer)
+            {
+                aCustomer.setCompany(this);
+                this.customers.add(aCustomer);
+                this.customersByName.getIfAbsentPut(aCustomer.getName(), aCustomer);
+                this.customersByCity.put(aCustomer.getCity(), aCustomer);
+                this.listeners.each(listener -> listener.customerAdded(aCustomer));
+            }
+        }
     }
 
+    /**
+     * Registers a listener for the customers, orders and line items added from now on. The listener is first told
+     * about every existing customer through {@link CompanyListener#customerAdded(Customer)}.
+     * <p>
+     * Listeners are called on the thread that makes the change, while it holds the customer's lock. Listeners of a
+     * concurrent company must therefore be thread-safe, and should be subscribed before other threads start adding
+     * orders and line items.
+     */
+    public synchronized void subscribe(CompanyListener listener)
+    {
+        for (int i = 0; i < this.customers.size(); i++)
+        {
+            Customer customer = this.customers.get(i);
+            synchronized (customer)
+            {
+                listener.customerAdded(customer);
+            }
+        }
+        this.listeners = this.listeners.newWith(listener);
+    }
+
+    public synchronized void unsubscribe(CompanyListener listener)
+    {
+        this.listeners = this.listeners.newWithout(listener);
+    }
+
+    void orderAdded(Customer customer, Order order)
+    {
+        ImmutableList<CompanyListener> listeners = this.listeners;
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).orderAdded(customer, order);
+        }
+    }
+
+    /**
+     * Called by a customer of this company, while holding the customer's lock, when an order is removed.
+     */
+    void orderRemoved(Customer customer, Order order)
+    {
+        this.deliveries.unregister(order.getOrderNumber());
+        ImmutableList<CompanyListener> listeners = this.listeners;
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).orderRemoved(customer, order);
+        }
+    }
+
+    void lineItemsAdded(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+        ImmutableList<CompanyListener> listeners = this.listeners;
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).lineItemsAdded(customer, order, lineItem, occurrences);
+        }
+    }
+
+    void lineItemsRemoved(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+        ImmutableList<CompanyListener> listeners = this.listeners;
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).lineItemsRemoved(customer, order, lineItem, occurrences);
+        }
+    }
+
+    /**
+     * Returns the customers. A concurrent company returns a read-only snapshot, and other companies return a read-only
+     * view of the list. Customers are added with {@link #addCustomer(Customer)}, which also indexes them by name and by
+     * city.
+     */
     public MutableList<Customer> getCustomers()
     {
-        return this.customers;
+        if (this.concurrent)
+        {
+            synchronized (this)
+            {
+                return FastList.newList(this.customers).asUnmodifiable();
+            }
+        }
+        return this.customersView;
+    }
+
+    /**
+     * Returns a read-only view of the customers in the given city, in the order they were added. A concurrent company
+     * returns a snapshot.
+     */
+    public MutableList<Customer> customersInCity(String city)
+    {
+        if (this.concurrent)
+        {
+            synchronized (this)
+            {
+                return this.customersByCity.get(city).toList().asUnmodifiable();
+            }
+        }
+        return this.customersByCity.get(city).asUnmodifiable();
+    }
+
+    /**
+     * Returns the number of customers in each city, computed from the city index.
+     */
+    public synchronized Bag<String> countByCity()
+    {
+        return this.customersByCity.keyBag();
     }
 
     /**
@@ -54,43 +249,248 @@ public class Company
      */
     public MutableList<Order> getOrders()
     {
-        return this.customers.flatCollect(Customer::getOrders);
+        return this.getCustomers().flatCollect(Customer::getOrders);
     }
 
-    public Customer getMostRecentCustomer()
+    /**
+     * Returns a lazy view of the orders of all customers. Unlike {@link #getOrders()}, no list of orders is built.
+     */
+    public LazyIterable<Order> asLazyOrders()
     {
-        return this.customers.getLast();
+        return this.getCustomers().asLazy().flatCollect(Customer::getOrders);
+    }
+
+    /**
+     * Returns a lazy view of the line items of all orders, with each occurrence of a line item returned separately,
+     * like {@code getOrders().flatCollect(Order::getLineItems)}. No intermediate orders list or line item bags are
+     * built when the view is traversed with internal iteration.
+     */
+    public LazyIterable<LineItem> asLazyLineItems()
+    {
+        return new CompanyLineItems(this.getCustomers());
     }
 
     /**
-     * Simplify after refactoring to use a MutableList&lt;Supplier&gt;.
+     * Returns a view of this company that runs queries across customers, orders and line items in batches of
+     * customers on the given executor.
+     */
+    public ParallelCompany asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new ParallelCompany(this, executorService, batchSize);
+    }
+
+    /**
+     * Delivers, in parallel across customers, every order that satisfies {@code orderPredicate} for every customer
+     * that satisfies {@code customerPredicate}. Each customer's orders are delivered while holding the customer's lock,
+     * and the delivery bitmap is updated with atomic writes, so other threads see them as soon as this method returns.
      *
-     * @param supplier
+     * @see ParallelCompany#deliverAll(Predicate, Predicate)
+     */
+    public DeliveryReport deliverAll(
+            Predicate<? super Customer> customerPredicate,
+            Predicate<? super Order> orderPredicate)
+    {
+        DeliveryCounter counter = new DeliveryCounter(customerPredicate, orderPredicate);
+        ParallelIterate.forEach(this.getCustomers(), counter);
+        return counter.toReport();
+    }
+
+    /**
+     * Same as {@link #deliverAll(Predicate, Predicate)}, running the deliveries on the given executor instead of the
+     * shared {@link ParallelIterate} pool.
+     */
+    public DeliveryReport deliverAll(
+            Predicate<? super Customer> customerPredicate,
+            Predicate<? super Order> orderPredicate,
+            Executor executor)
+    {
+        DeliveryCounter counter = new DeliveryCounter(customerPredicate, orderPredicate);
+        ParallelIterate.forEach(this.getCustomers(), counter, executor);
+        return counter.toReport();
+    }
+
+    OrderDeliveries getDeliveries()
+    {
+        return this.deliveries;
+    }
+
+    /**
+     * Registers orders with the delivery bitmap. Throws an {@link IllegalArgumentException}, and registers none of
+     * them, if an order is numbered by a different allocator than this company's orders or has the number of an order
+     * registered before, as the bitmap can only hold one order per number.
+     */
+    void registerOrders(ListIterable<Order> orders)
+    {
+        orders.each(this::checkOrderNumbers);
+        for (int i = 0; i < orders.size(); i++)
+        {
+            Order order = orders.get(i);
+            if (!this.deliveries.register(order.getOrderNumber()))
+            {
+                for (int j = 0; j < i; j++)
+                {
+                    this.deliveries.unregister(orders.get(j).getOrderNumber());
+                }
+                throw new IllegalArgumentException("Order number " + order.getOrderNumber() + " is already used in " + this.name);
+            }
+        }
+    }
+
+    private void checkOrderNumbers(Order order)
+    {
+        if (order.getOrderNumberAllocator() != this.orderNumbers)
+        {
+            throw new IllegalArgumentException(order + " is not numbered by the order number allocator of " + this.name);
+        }
+    }
+
+    /**
+     * Returns the number of delivered orders, counted from the delivery bitmap without visiting any order.
+     */
+    public int getDeliveredOrderCount()
+    {
+        return this.deliveries.deliveredCount();
+    }
+
+    /**
+     * Returns the number of orders not yet delivered, counted from the delivery bitmap without visiting any order.
+     */
+    public int getUndeliveredOrderCount()
+    {
+        return this.deliveries.undeliveredCount();
+    }
+
+    /**
+     * Passes the number of every order not yet delivered to the procedure, in ascending order.
+     */
+    public void forEachUndeliveredOrderNumber(IntProcedure procedure)
+    {
+        this.deliveries.forEachUndelivered(procedure);
+    }
+
+    /**
+     * Returns the numbers of the orders not yet delivered, in ascending order.
      */
-    public void addSupplier(Supplier supplier)
+    public MutableIntList getUndeliveredOrderNumbers()
+    {
+        MutableIntList orderNumbers = new IntArrayList();
+        this.deliveries.forEachUndelivered(orderNumbers::add);
+        return orderNumbers;
+    }
+
+    public synchronized Customer getMostRecentCustomer()
+    {
+        return this.customers.getLast();
+    }
+
+    public synchronized void addSupplier(Supplier supplier)
     {
-        // need to replace the current array of suppliers with another, larger array
-        // Of course, normally one would not use an array.
+        this.suppliers.add(supplier);
+        this.supplierArray = null;
+        this.indexSupplier(supplier);
+    }
 
-        Supplier[] currentSuppliers = this.suppliers;
-        this.suppliers = new Supplier[currentSuppliers.length + 1];
-        System.arraycopy(currentSuppliers, 0, this.suppliers, 0, currentSuppliers.length);
-        this.suppliers[this.suppliers.length - 1] = supplier;
+    public synchronized void addSuppliers(Iterable<? extends Supplier> suppliers)
+    {
+        for (Supplier supplier : suppliers)
+        {
+            this.suppliers.add(supplier);
+            this.indexSupplier(supplier);
+        }
+        this.supplierArray = null;
     }
 
+    private void indexSupplier(Supplier supplier)
+    {
+        for (String itemName : supplier.getItemNames())
+        {
+            MutableList<Supplier> suppliers = this.suppliersByItemName.get(itemName);
+            if (suppliers.isEmpty() || suppliers.getLast() != supplier)
+            {
+                this.suppliersByItemName.put(itemName, supplier);
+            }
+        }
+    }
+
+    /**
+     * Returns the suppliers of the given item, in the order they were added. A concurrent company returns a snapshot,
+     * and other companies return a read-only view of the index.
+     */
+    public ListIterable<Supplier> getSuppliersOf(String itemName)
+    {
+        if (this.concurrent)
+        {
+            synchronized (this)
+            {
+                return this.suppliersByItemName.get(itemName).toImmutable();
+            }
+        }
+        return this.suppliersByItemName.get(itemName).asUnmodifiable();
+    }
+
+    /**
+     * Returns the suppliers that supply at least one of the given items.
+     */
+    public MutableSet<Supplier> getSuppliersOfAny(Iterable<String> itemNames)
+    {
+        MutableSet<Supplier> result = Sets.mutable.empty();
+        for (String itemName : itemNames)
+        {
+            result.addAllIterable(this.getSuppliersOf(itemName));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the suppliers that supply every one of the given items.
+     */
+    public MutableSet<Supplier> getSuppliersOfAll(Iterable<String> itemNames)
+    {
+        MutableSet<Supplier> result = null;
+        for (String itemName : itemNames)
+        {
+            ListIterable<Supplier> suppliers = this.getSuppliersOf(itemName);
+            if (result == null)
+            {
+                result = suppliers.toSet();
+            }
+            else
+            {
+                result.retainAllIterable(suppliers);
+            }
+            if (result.isEmpty())
+            {
+                return result;
+            }
+        }
+        return result == null ? Sets.mutable.empty() : result;
+    }
+
+    /**
+     * Returns the suppliers as an array. The array is cached and only rebuilt after suppliers have been added.
+     */
     public Supplier[] getSuppliers()
     {
-        return this.suppliers;
+        Supplier[] supplierArray = this.supplierArray;
+        if (supplierArray == null)
+        {
+            synchronized (this)
+            {
+                if (this.supplierArray == null)
+                {
+                    this.supplierArray = this.suppliers.toArray(new Supplier[0]);
+                }
+                supplierArray = this.supplierArray;
+            }
+        }
+        return supplierArray;
     }
 
     /**
-     * Remove the Assert.fail() and replace the null with an appropriate implementation.
-     * Use a {@link Predicate} to find a {@link Customer} with the name given.
-     *
-     * @see org.eclipse.collections.api.RichIterable#flatCollect(Function)
+     * Returns the first {@link Customer} added with the given name, or null if there is none.
      */
     public Customer getCustomerNamed(String name)
     {
-        return this.customers.detect(Predicates.attributeEqual(Customer::getName, name));
+        return this.customersByName.get(name);
     }
 }
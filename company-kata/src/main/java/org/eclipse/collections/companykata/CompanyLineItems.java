@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+
+/**
+ * A lazy iterable over every line item in every order of a list of customers.
+ */
+final class CompanyLineItems extends AbstractLazyIterable<LineItem>
+{
+    private final MutableList<Customer> customers;
+
+    CompanyLineItems(MutableList<Customer> customers)
+    {
+        this.customers = customers;
+    }
+
+    @Override
+    public void each(Procedure<? super LineItem> procedure)
+    {
+        for (int i = 0; i < this.customers.size(); i++)
+        {
+            MutableList<Order> orders = this.customers.get(i).getOrders();
+            for (int j = 0; j < orders.size(); j++)
+            {
+                orders.get(j).forEachLineItem(procedure);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<LineItem> iterator()
+    {
+        return this.customers.asLazy()
+                .flatCollect(Customer::getOrders)
+                .flatCollect(Order::getLineItems)
+                .iterator();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+/**
+ * Receives the mutations made to a {@link Company} after it is passed to {@link Company#subscribe(CompanyListener)}.
+ * When a customer is added, the orders and line items it already has are not reported separately.
+ */
+public interface CompanyListener
+{
+    /**
+     * Called by {@link Company#addCustomer(Customer)}, and once for each existing customer on subscription.
+     */
+    default void customerAdded(Customer customer)
+    {
+    }
+
+    /**
+     * Called by {@link Customer#addOrder(Order)} for a customer of the company.
+     */
+    default void orderAdded(Customer customer, Order order)
+    {
+    }
+
+    /**
+     * Called when an order is removed through {@link Customer#getOrders()} from a customer of the company.
+     */
+    default void orderRemoved(Customer customer, Order order)
+    {
+    }
+
+    /**
+     * Called by {@link Order#addLineItem(LineItem)} and {@link Order#addLineItems(LineItem, int)} for an order of a
+     * customer of the company.
+     */
+    default void lineItemsAdded(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+    }
+
+    /**
+     * Called when line items are removed through {@link Order#getLineItems()} from an order of a customer of the
+     * company.
+     */
+    default void lineItemsRemoved(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+    }
+}
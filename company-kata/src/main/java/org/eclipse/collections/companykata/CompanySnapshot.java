@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+
+/**
+ * A read-only snapshot of the customers, orders and line items of a {@link Company}, stored in a file and read
+ * through memory-mapped buffers. {@link #write(Company, Path)} writes the snapshot, and {@link #open(Path)} maps it
+ * without reading customers, orders or line items into heap objects, so opening takes about the same time for any
+ * size of company. {@link #getCustomerNamed(String)} is a hash lookup in the file, and
+ * {@link SnapshotCustomer}s and {@link SnapshotOrder}s are views that read their values from the file when asked.
+ * <p>
+ * The file starts with a header of {@value #HEADER_INTS} ints, followed by fixed-width columns in this order:
+ * <ul>
+ * <li>the string dictionary: the start of each string in the string bytes, plus the end of the last string, and
+ * the strings as UTF-8 bytes</li>
+ * <li>customers: name id, city id and total order value, the index of each customer's first order plus the number
+ * of orders, and an open-addressing hash table of customer index + 1 by name</li>
+ * <li>orders: order number, delivered flag and value, and the index of each order's first line item plus the number
+ * of line items</li>
+ * <li>line items: name id, price and number of occurrences</li>
+ * </ul>
+ * Strings are referred to by their index in the dictionary, or -1 for {@code null}. Numbers are big-endian. Suppliers
+ * are not part of the snapshot.
+ */
+public final class CompanySnapshot implements Closeable
+{
+    private static final int MAGIC = 0x45434B53;
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 9;
+    private static final int NO_STRING = -1;
+
+    private final FileChannel channel;
+    private final int companyNameId;
+    private final IntBuffer stringStarts;
+    private final ByteBuffer stringBytes;
+    private final IntBuffer customerNames;
+    private final IntBuffer customerCities;
+    private final DoubleBuffer customerTotals;
+    private final IntBuffer customerOrderStarts;
+    private final IntBuffer customersByName;
+    private final IntBuffer orderNumbers;
+    private final ByteBuffer orderDelivered;
+    private final DoubleBuffer orderValues;
+    private final IntBuffer orderLineItemStarts;
+    private final IntBuffer lineItemNames;
+    private final DoubleBuffer lineItemPrices;
+    private final IntBuffer lineItemOccurrences;
+
+    private CompanySnapshot(FileChannel channel) throws IOException
+    {
+        this.channel = channel;
+        IntBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, Math.min(channel.size(), HEADER_INTS * 4L))
+                .asIntBuffer();
+        if (header.capacity() < HEADER_INTS || header.get(0) != MAGIC)
+        {
+            throw new IOException("Not a company snapshot");
+        }
+        if (header.get(1) != VERSION)
+        {
+            throw new IOException("Unsupported company snapshot version: " + header.get(1));
+        }
+        this.companyNameId = header.get(2);
+        int stringCount = header.get(3);
+        int stringByteCount = header.get(4);
+        int customerCount = header.get(5);
+        int tableSize = header.get(6);
+        int orderCount = header.get(7);
+        int lineItemCount = header.get(8);
+
+        long expectedSize = HEADER_INTS * 4L
+                + (stringCount + 1L) * 4L + stringByteCount
+                + customerCount * 16L + (customerCount + 1L) * 4L + tableSize * 4L
+                + orderCount * 13L + (orderCount + 1L) * 4L
+                + lineItemCount * 16L;
+        if (channel.size() != expectedSize)
+        {
+            throw new IOException("Company snapshot is " + channel.size() + " bytes, expected " + expectedSize);
+        }
+
+        Columns columns = new Columns(channel, HEADER_INTS * 4L);
+        this.stringStarts = columns.ints(stringCount + 1);
+        this.stringBytes = columns.bytes(stringByteCount);
+        this.customerNames = columns.ints(customerCount);
+        this.customerCities = columns.ints(customerCount);
+        this.customerTotals = columns.doubles(customerCount);
+        this.customerOrderStarts = columns.ints(customerCount + 1);
+        this.customersByName = columns.ints(tableSize);
+        this.orderNumbers = columns.ints(orderCount);
+        this.orderDelivered = columns.bytes(orderCount);
+        this.orderValues = columns.doubles(orderCount);
+        this.orderLineItemStarts = columns.ints(orderCount + 1);
+        this.lineItemNames = columns.ints(lineItemCount);
+        this.lineItemPrices = columns.doubles(lineItemCount);
+        this.lineItemOccurrences = columns.ints(lineItemCount);
+    }
+
+    /**
+     * Maps a snapshot written by {@link #write(Company, Path)}. The snapshot stays readable until it is closed.
+     */
+    public static CompanySnapshot open(Path path) throws IOException
+    {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try
+        {
+            return new CompanySnapshot(channel);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public String getName()
+    {
+        return this.stringAt(this.companyNameId);
+    }
+
+    public int getCustomerCount()
+    {
+        return this.customerNames.capacity();
+    }
+
+    public SnapshotCustomer getCustomer(int index)
+    {
+        if (index < 0 || index >= this.getCustomerCount())
+        {
+            throw new IndexOutOfBoundsException("Customer: " + index + " Customers: " + this.getCustomerCount());
+        }
+        return new SnapshotCustomer(this, index);
+    }
+
+    /**
+     * Returns the first customer written with the given name, or {@code null} if there is none, like
+     * {@link Company#getCustomerNamed(String)}. Customers without a name are not in the hash table, so looking up a
+     * {@code null} name scans the customers.
+     */
+    public SnapshotCustomer getCustomerNamed(String name)
+    {
+        if (name == null)
+        {
+            for (int i = 0; i < this.getCustomerCount(); i++)
+            {
+                if (this.customerNames.get(i) == NO_STRING)
+                {
+                    return new SnapshotCustomer(this, i);
+                }
+            }
+            return null;
+        }
+        int tableSize = this.customersByName.capacity();
+        if (tableSize == 0)
+        {
+            return null;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int mask = tableSize - 1;
+        for (int slot = CompanySnapshot.spread(name.hashCode()) & mask; ; slot = (slot + 1) & mask)
+        {
+            int customerIndexPlusOne = this.customersByName.get(slot);
+            if (customerIndexPlusOne == 0)
+            {
+                return null;
+            }
+            int customerIndex = customerIndexPlusOne - 1;
+            if (this.stringEquals(this.customerNames.get(customerIndex), bytes))
+            {
+                return new SnapshotCustomer(this, customerIndex);
+            }
+        }
+    }
+
+    public int getOrderCount()
+    {
+        return this.orderNumbers.capacity();
+    }
+
+    /**
+     * Returns a new list of views of the orders of every customer, customer by customer, like
+     * {@link Company#getOrders()}. The orders are stored in that order, so no customer is visited.
+     */
+    public MutableList<SnapshotOrder> getOrders()
+    {
+        MutableList<SnapshotOrder> orders = FastList.newList(this.getOrderCount());
+        for (int i = 0; i < this.getOrderCount(); i++)
+        {
+            orders.add(new SnapshotOrder(this, i));
+        }
+        return orders;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        this.channel.close();
+    }
+
+    String customerName(int customerIndex)
+    {
+        return this.stringAt(this.customerNames.get(customerIndex));
+    }
+
+    String customerCity(int customerIndex)
+    {
+        return this.stringAt(this.customerCities.get(customerIndex));
+    }
+
+    double customerTotalOrderValue(int customerIndex)
+    {
+        return this.customerTotals.get(customerIndex);
+    }
+
+    int customerFirstOrder(int customerIndex)
+    {
+        return this.customerOrderStarts.get(customerIndex);
+    }
+
+    int customerEndOrder(int customerIndex)
+    {
+        return this.customerOrderStarts.get(customerIndex + 1);
+    }
+
+    int orderNumber(int orderIndex)
+    {
+        return this.orderNumbers.get(orderIndex);
+    }
+
+    boolean orderDelivered(int orderIndex)
+    {
+        return this.orderDelivered.get(orderIndex) != 0;
+    }
+
+    double orderValue(int orderIndex)
+    {
+        return this.orderValues.get(orderIndex);
+    }
+
+    int orderFirstLineItem(int orderIndex)
+    {
+        return this.orderLineItemStarts.get(orderIndex);
+    }
+
+    int orderEndLineItem(int orderIndex)
+    {
+        return this.orderLineItemStarts.get(orderIndex + 1);
+    }
+
+    LineItem lineItem(int lineItemIndex)
+    {
+        return LineItem.of(this.stringAt(this.lineItemNames.get(lineItemIndex)), this.lineItemPrices.get(lineItemIndex));
+    }
+
+    int lineItemOccurrences(int lineItemIndex)
+    {
+        return this.lineItemOccurrences.get(lineItemIndex);
+    }
+
+    private String stringAt(int id)
+    {
+        if (id == NO_STRING)
+        {
+            return null;
+        }
+        int start = this.stringStarts.get(id);
+        byte[] bytes = new byte[this.stringStarts.get(id + 1) - start];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            bytes[i] = this.stringBytes.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int id, byte[] bytes)
+    {
+        if (id == NO_STRING)
+        {
+            return false;
+        }
+        int start = this.stringStarts.get(id);
+        if (this.stringStarts.get(id + 1) - start != bytes.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++)
+        {
+            if (this.stringBytes.get(start + i) != bytes[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hashCode)
+    {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Writes a snapshot of the company's customers, orders and line items. The company must not change while it is
+     * written.
+     */
+    public static void write(Company company, Path path) throws IOException
+    {
+        MutableList<Customer> customers = company.getCustomers();
+        MutableObjectIntMap<String> stringIds = ObjectIntHashMap.newMap();
+        MutableList<String> strings = FastList.newList();
+        int companyNameId = CompanySnapshot.stringId(company.getName(), stringIds, strings);
+        int[] customerNames = new int[customers.size()];
+        int[] customerCities = new int[customers.size()];
+        int[] counts = new int[2];
+        for (int i = 0; i < customers.size(); i++)
+        {
+            Customer customer = customers.get(i);
+            customerNames[i] = CompanySnapshot.stringId(customer.getName(), stringIds, strings);
+            customerCities[i] = CompanySnapshot.stringId(customer.getCity(), stringIds, strings);
+            for (Order order : customer.getOrders())
+            {
+                counts[0]++;
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                {
+                    CompanySnapshot.stringId(lineItem.getName(), stringIds, strings);
+                    counts[1]++;
+                });
+            }
+        }
+        int orderCount = counts[0];
+        int lineItemCount = counts[1];
+        int[] customersByName = CompanySnapshot.customersByName(customerNames, strings);
+        MutableList<byte[]> stringBytes = strings.collect(string -> string.getBytes(StandardCharsets.UTF_8));
+        long stringByteCount = stringBytes.sumOfInt(bytes -> bytes.length);
+        if (stringByteCount > Integer.MAX_VALUE)
+        {
+            throw new IllegalStateException("Too many string bytes for a company snapshot: " + stringByteCount);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(companyNameId);
+            out.writeInt(strings.size());
+            out.writeInt((int) stringByteCount);
+            out.writeInt(customers.size());
+            out.writeInt(customersByName.length);
+            out.writeInt(orderCount);
+            out.writeInt(lineItemCount);
+
+            int start = 0;
+            for (byte[] bytes : stringBytes)
+            {
+                out.writeInt(start);
+                start += bytes.length;
+            }
+            out.writeInt(start);
+            for (byte[] bytes : stringBytes)
+            {
+                out.write(bytes);
+            }
+
+            CompanySnapshot.writeInts(out, customerNames);
+            CompanySnapshot.writeInts(out, customerCities);
+            for (Customer customer : customers)
+            {
+                out.writeDouble(customer.getTotalOrderValue());
+            }
+            int firstOrder = 0;
+            for (Customer customer : customers)
+            {
+                out.writeInt(firstOrder);
+                firstOrder += customer.getOrders().size();
+            }
+            out.writeInt(firstOrder);
+            CompanySnapshot.writeInts(out, customersByName);
+
+            MutableList<Order> orders = customers.flatCollect(Customer::getOrders);
+            for (Order order : orders)
+            {
+                out.writeInt(order.getOrderNumber());
+            }
+            for (Order order : orders)
+            {
+                out.writeByte(order.isDelivered() ? 1 : 0);
+            }
+            for (Order order : orders)
+            {
+                out.writeDouble(order.getValue());
+            }
+            int[] firstLineItem = new int[1];
+            for (Order order : orders)
+            {
+                out.writeInt(firstLineItem[0]);
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) -> firstLineItem[0]++);
+            }
+            out.writeInt(firstLineItem[0]);
+
+            for (Order order : orders)
+            {
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                        CompanySnapshot.writeInt(out, stringIds.get(lineItem.getName())));
+            }
+            for (Order order : orders)
+            {
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                        CompanySnapshot.writeDouble(out, lineItem.getValue()));
+            }
+            for (Order order : orders)
+            {
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                        CompanySnapshot.writeInt(out, occurrences));
+            }
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    private static int stringId(String string, MutableObjectIntMap<String> stringIds, MutableList<String> strings)
+    {
+        if (string == null)
+        {
+            return NO_STRING;
+        }
+        return stringIds.getIfAbsentPut(string, () ->
+        {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Builds the open-addressing table of customer index + 1 by name, at most half full. The first customer with a
+     * name takes its slot, and later customers with the same name are left out.
+     */
+    private static int[] customersByName(int[] customerNames, MutableList<String> strings)
+    {
+        if (customerNames.length == 0)
+        {
+            return new int[0];
+        }
+        int tableSize = Integer.highestOneBit(Math.max(1, customerNames.length * 2 - 1)) << 1;
+        int mask = tableSize - 1;
+        int[] table = new int[tableSize];
+        for (int i = 0; i < customerNames.length; i++)
+        {
+            int nameId = customerNames[i];
+            if (nameId == NO_STRING)
+            {
+                continue;
+            }
+            int slot = CompanySnapshot.spread(strings.get(nameId).hashCode()) & mask;
+            while (table[slot] != 0 && customerNames[table[slot] - 1] != nameId)
+            {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == 0)
+            {
+                table[slot] = i + 1;
+            }
+        }
+        return table;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException
+    {
+        for (int value : values)
+        {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeInt(DataOutputStream out, int value)
+    {
+        try
+        {
+            out.writeInt(value);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeDouble(DataOutputStream out, double value)
+    {
+        try
+        {
+            out.writeDouble(value);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the columns of a snapshot one after another, each as its own buffer, so no single mapping has to cover the
+     * whole file.
+     */
+    private static final class Columns
+    {
+        private final FileChannel channel;
+        private long position;
+
+        private Columns(FileChannel channel, long position)
+        {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        private ByteBuffer bytes(int count) throws IOException
+        {
+            ByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, count);
+            this.position += count;
+            return buffer;
+        }
+
+        private IntBuffer ints(int count) throws IOException
+        {
+            return this.bytes(Math.multiplyExact(count, 4)).asIntBuffer();
+        }
+
+        private DoubleBuffer doubles(int count) throws IOException
+        {
+            return this.bytes(Math.multiplyExact(count, 8)).asDoubleBuffer();
+        }
+    }
+}
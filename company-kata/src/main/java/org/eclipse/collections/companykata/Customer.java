@@ -10,13 +10,20 @@
 
 package org.eclipse.collections.companykata;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.impl.block.function.AddFunction;
 import org.eclipse.collections.impl.factory.Lists;
-import org.eclipse.collections.impl.utility.ListIterate;
 
 /**
- * Customers have a name, city and a list of {@link Order}s
+ * Customers have a name, city and a list of {@link Order}s. The total value of the orders added through
+ * {@link #addOrder(Order)} is maintained as a running total. City names are interned, as many customers share the
+ * same city.
+ * <p>
+ * A customer's orders, and the line items of those orders, are guarded by the customer's lock, so orders and line
+ * items can be added to different customers from different threads without contention.
  */
 public class Customer
 {
@@ -24,11 +31,14 @@ public class Customer
     private final String city;
 
     private final MutableList<Order> orders = Lists.mutable.empty();
+    private final CustomerOrders ordersView = new CustomerOrders(this, this.orders);
+    private volatile double totalOrderValue;
+    private volatile Company company;
 
     public Customer(String name, String city)
     {
         this.name = name;
-        this.city = city;
+        this.city = city == null ? null : city.intern();
     }
 
     public String getCity()
@@ -41,19 +51,149 @@ public class Customer
         return this.name;
     }
 
+    /**
+     * Returns the orders. A customer of a concurrent {@link Company} returns a read-only snapshot. Other customers
+     * return a view of the list, and adding or removing orders through it works like {@link #addOrder(Order)}, so the
+     * total order value stays up to date.
+     */
     public MutableList<Order> getOrders()
     {
-        return this.orders;
+        Company company = this.company;
+        if (company != null && company.isConcurrent())
+        {
+            synchronized (this)
+            {
+                return this.orders.toList().asUnmodifiable();
+            }
+        }
+        return this.ordersView;
+    }
+
+    /**
+     * Adds an order to this customer. Until then the order must only be used by one thread, and it cannot be added to
+     * another customer afterwards. If this customer belongs to a company, the order must be numbered by the same
+     * {@link OrderNumberAllocator} as the company's orders, and no other order of the company may have its number.
+     */
+    public synchronized void addOrder(Order anOrder)
+    {
+        this.insertOrder(this.orders.size(), anOrder);
     }
 
-    public void addOrder(Order anOrder)
+    /**
+     * Adds an order at the index, as {@link #addOrder(Order)} does. A {@code null} order is kept in the list, and
+     * counts for nothing. Called by {@link #addOrder(Order)} and by the list returned by {@link #getOrders()}.
+     */
+    synchronized void insertOrder(int index, Order anOrder)
     {
-        this.orders.add(anOrder);
+        if (anOrder == null)
+        {
+            this.orders.add(index, null);
+            return;
+        }
+        Company company = this.company;
+        if (company != null && anOrder.getCustomer() == null)
+        {
+            company.registerOrders(Lists.immutable.with(anOrder));
+        }
+        anOrder.setCustomer(this);
+        this.orders.add(index, anOrder);
+        this.totalOrderValue += anOrder.getValue();
+        if (company != null)
+        {
+            company.orderAdded(this, anOrder);
+        }
+    }
+
+    /**
+     * Removes the order at the index and returns it. The order no longer belongs to this customer, so it can be added
+     * to a customer again. Called by the list returned by {@link #getOrders()}.
+     */
+    synchronized Order removeOrder(int index)
+    {
+        Order order = this.orders.remove(index);
+        if (order != null)
+        {
+            this.totalOrderValue -= order.getValue();
+            Company company = this.company;
+            if (company != null)
+            {
+                company.orderRemoved(this, order);
+            }
+            order.setCustomer(null);
+        }
+        return order;
     }
 
     public double getTotalOrderValue()
     {
-        MutableList<Double> orderValues = ListIterate.collect(this.orders, Order::getValue);
-        return orderValues.injectInto(0.0, AddFunction.DOUBLE_TO_DOUBLE);
+        return this.totalOrderValue;
+    }
+
+    Company getCompany()
+    {
+        return this.company;
+    }
+
+    /**
+     * Called by {@link Company#addCustomer(Customer)} while holding this customer's lock. The orders are registered
+     * with the company's delivery bitmap before they can see the company. Nothing changes if an order is numbered by
+     * a different allocator than the company's, or has the number of another order of the company.
+     */
+    void setCompany(Company company)
+    {
+        company.registerOrders(this.orders.select(Objects::nonNull));
+        this.company = company;
+    }
+
+    /**
+     * Delivers the orders that satisfy the predicate, adding to {@code delivered} for each order delivered now and to
+     * {@code alreadyDelivered} for each order that had been delivered before.
+     */
+    synchronized void deliverOrders(
+            Predicate<? super Order> predicate,
+            LongAdder delivered,
+            LongAdder alreadyDelivered)
+    {
+        for (int i = 0; i < this.orders.size(); i++)
+        {
+            Order order = this.orders.get(i);
+            if (predicate.accept(order))
+            {
+                if (order.deliverIfUndelivered())
+                {
+                    delivered.increment();
+                }
+                else
+                {
+                    alreadyDelivered.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by an order of this customer while holding this customer's lock.
+     */
+    void lineItemsAdded(Order order, LineItem lineItem, int occurrences)
+    {
+        this.totalOrderValue += lineItem.getValue() * occurrences;
+        Company company = this.company;
+        if (company != null)
+        {
+            company.lineItemsAdded(this, order, lineItem, occurrences);
+        }
+    }
+
+    /**
+     * Called by an order of this customer while holding this customer's lock.
+     */
+    void lineItemsRemoved(Order order, LineItem lineItem, int occurrences)
+    {
+        this.totalOrderValue -= lineItem.getValue() * occurrences;
+        Company company = this.company;
+        if (company != null)
+        {
+            company.lineItemsRemoved(this, order, lineItem, occurrences);
+        }
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.AbstractMutableList;
+
+/**
+ * The {@link MutableList} returned by {@link Customer#getOrders()} for a customer of a company that is not concurrent.
+ * Reads go to the customer's list of orders, and every write, including writes through iterators and sublists, goes
+ * through the customer, so its total order value, the company's delivery bitmap and the company's listeners stay up to
+ * date.
+ */
+final class CustomerOrders extends AbstractMutableList<Order> implements RandomAccess
+{
+    private final Customer customer;
+    private final MutableList<Order> orders;
+
+    CustomerOrders(Customer customer, MutableList<Order> orders)
+    {
+        this.customer = customer;
+        this.orders = orders;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.orders.size();
+    }
+
+    @Override
+    public Order get(int index)
+    {
+        return this.orders.get(index);
+    }
+
+    @Override
+    public void each(Procedure<? super Order> procedure)
+    {
+        this.orders.each(procedure);
+    }
+
+    @Override
+    public boolean add(Order order)
+    {
+        this.customer.insertOrder(this.orders.size(), order);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Order order)
+    {
+        this.customer.insertOrder(index, order);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Order> orders)
+    {
+        int next = index;
+        for (Order order : orders)
+        {
+            this.customer.insertOrder(next++, order);
+        }
+        return !orders.isEmpty();
+    }
+
+    @Override
+    public Order set(int index, Order order)
+    {
+        synchronized (this.customer)
+        {
+            Order previous = this.customer.removeOrder(index);
+            this.customer.insertOrder(index, order);
+            return previous;
+        }
+    }
+
+    @Override
+    public Order remove(int index)
+    {
+        return this.customer.removeOrder(index);
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (this.customer)
+        {
+            for (int i = this.orders.size() - 1; i >= 0; i--)
+            {
+                this.customer.removeOrder(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+
+/**
+ * Delivers the selected orders of each customer it is given and counts the results. One counter is shared by all the
+ * threads of a {@link Company#deliverAll} call.
+ */
+final class DeliveryCounter implements Procedure<Customer>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super Customer> customerPredicate;
+    private final Predicate<? super Order> orderPredicate;
+    private final LongAdder customers = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder alreadyDelivered = new LongAdder();
+
+    DeliveryCounter(Predicate<? super Customer> customerPredicate, Predicate<? super Order> orderPredicate)
+    {
+        this.customerPredicate = customerPredicate;
+        this.orderPredicate = orderPredicate;
+    }
+
+    @Override
+    public void value(Customer customer)
+    {
+        if (this.customerPredicate.accept(customer))
+        {
+            this.customers.increment();
+            customer.deliverOrders(this.orderPredicate, this.delivered, this.alreadyDelivered);
+        }
+    }
+
+    DeliveryReport toReport()
+    {
+        return new DeliveryReport(
+                this.customers.intValue(),
+                this.delivered.intValue(),
+                this.alreadyDelivered.intValue());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+/**
+ * The counts reported by {@link Company#deliverAll}: how many customers were selected, how many of their selected
+ * orders were delivered by the call, and how many had already been delivered.
+ */
+public final class DeliveryReport
+{
+    private final int customerCount;
+    private final int deliveredOrderCount;
+    private final int alreadyDeliveredOrderCount;
+
+    DeliveryReport(int customerCount, int deliveredOrderCount, int alreadyDeliveredOrderCount)
+    {
+        this.customerCount = customerCount;
+        this.deliveredOrderCount = deliveredOrderCount;
+        this.alreadyDeliveredOrderCount = alreadyDeliveredOrderCount;
+    }
+
+    public int getCustomerCount()
+    {
+        return this.customerCount;
+    }
+
+    public int getDeliveredOrderCount()
+    {
+        return this.deliveredOrderCount;
+    }
+
+    public int getAlreadyDeliveredOrderCount()
+    {
+        return this.alreadyDeliveredOrderCount;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass())
+        {
+            return false;
+        }
+        DeliveryReport that = (DeliveryReport) o;
+        return this.customerCount == that.customerCount
+                && this.deliveredOrderCount == that.deliveredOrderCount
+                && this.alreadyDeliveredOrderCount == that.alreadyDeliveredOrderCount;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = this.customerCount;
+        result = 31 * result + this.deliveredOrderCount;
+        result = 31 * result + this.alreadyDeliveredOrderCount;
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "customers: " + this.customerCount
+                + " delivered: " + this.deliveredOrderCount
+                + " already delivered: " + this.alreadyDeliveredOrderCount;
+    }
+}
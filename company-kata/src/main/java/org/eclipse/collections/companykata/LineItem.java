@@ -10,24 +10,51 @@
 
 package org.eclipse.collections.companykata;
 
-import org.eclipse.collections.api.block.function.Function;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * An Item has a name and a value.
+ * An Item has a name and a value. Line items are immutable values, and {@link #of(String, double)} returns shared
+ * instances from a fixed-size cache. The cache saves allocations, but it does not intern line items: equal line items
+ * may be different instances, and the constructor always creates a new one, so compare line items with
+ * {@link #equals(Object)}.
  */
-public class LineItem
+public final class LineItem
 {
-    private String name;
+    private static final int CACHE_SIZE = 1 << 12;
+
+    private static final AtomicReferenceArray<LineItem> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final String name;
     private final double value;
 
-    public String getName()
+    public LineItem(String name, double value)
     {
-        return this.name;
+        this.name = name;
+        this.value = value;
     }
 
-    public void setName(String name)
+    /**
+     * Returns a line item equal to {@code new LineItem(name, value)}, reusing a cached instance when there is one. The
+     * cache has a fixed number of slots and takes no lock: each name and value maps to one slot, and a new line item
+     * replaces whatever was in its slot. Repeated calls for the same item therefore usually, but not always, return
+     * the same instance, so compare line items with {@link #equals(Object)}.
+     */
+    public static LineItem of(String name, double value)
     {
-        this.name = name;
+        int hash = LineItem.hashCode(name, value);
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        LineItem lineItem = CACHE.get(slot);
+        if (lineItem == null || !lineItem.equals(name, value))
+        {
+            lineItem = new LineItem(name, value);
+            CACHE.set(slot, lineItem);
+        }
+        return lineItem;
+    }
+
+    public String getName()
+    {
+        return this.name;
     }
 
     public double getValue()
@@ -35,10 +62,38 @@ public class LineItem
         return this.value;
     }
 
-    public LineItem(String name, double value)
+    @Override
+    public boolean equals(Object o)
     {
-        this.name = name;
-        this.value = value;
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof LineItem))
+        {
+            return false;
+        }
+        LineItem lineItem = (LineItem) o;
+        return this.equals(lineItem.name, lineItem.value);
+    }
+
+    private boolean equals(String name, double value)
+    {
+        return Double.compare(this.value, value) == 0
+                && (this.name == null ? name == null : this.name.equals(name));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return LineItem.hashCode(this.name, this.value);
+    }
+
+    private static int hashCode(String name, double value)
+    {
+        long bits = Double.doubleToLongBits(value);
+        int result = name == null ? 0 : name.hashCode();
+        return 31 * result + (int) (bits ^ (bits >>> 32));
     }
 
     @Override
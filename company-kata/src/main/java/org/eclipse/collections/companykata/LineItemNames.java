@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns {@link LineItem} names to dense int ids, so an {@link Order} can store an int per line item instead of a
+ * String reference.
+ * <p>
+ * Looking up a known name or id takes no lock: names are found in a {@link ConcurrentHashMap}, and ids index a
+ * volatile array. Only the first use of a new name takes the class lock, to append it to the array. A {@code null}
+ * name, which {@link LineItem} allows, has the reserved id {@link #NULL_ID}.
+ * <p>
+ * Names are never forgotten, so the memory used grows with the number of distinct names ever used, not with the
+ * number of line items. The kata's items have a small, fixed set of names.
+ */
+final class LineItemNames
+{
+    static final int NULL_ID = 0;
+    static final int UNKNOWN_ID = -1;
+
+    private static final ConcurrentMap<String, Integer> IDS_BY_NAME = new ConcurrentHashMap<>();
+    private static volatile String[] namesById = new String[64];
+    private static int size = NULL_ID + 1;
+
+    private LineItemNames()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static int idOf(String name)
+    {
+        if (name == null)
+        {
+            return NULL_ID;
+        }
+        Integer id = IDS_BY_NAME.get(name);
+        if (id == null)
+        {
+            id = IDS_BY_NAME.computeIfAbsent(name, LineItemNames::append);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the name without interning it, or {@link #UNKNOWN_ID} if the name has never been used.
+     */
+    public static int lookUpIdOf(String name)
+    {
+        if (name == null)
+        {
+            return NULL_ID;
+        }
+        Integer id = IDS_BY_NAME.get(name);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    /**
+     * Ids are only handed out after their name is stored, so any thread that has been given an id can read its name.
+     */
+    public static String nameOf(int id)
+    {
+        return namesById[id];
+    }
+
+    private static synchronized Integer append(String name)
+    {
+        String[] names = namesById;
+        if (size == names.length)
+        {
+            String[] grown = new String[names.length << 1];
+            System.arraycopy(names, 0, grown, 0, size);
+            grown[size] = name;
+            namesById = grown;
+        }
+        else
+        {
+            names[size] = name;
+        }
+        return size++;
+    }
+}
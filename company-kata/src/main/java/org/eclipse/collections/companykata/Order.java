@@ -10,77 +10,469 @@
 
 package org.eclipse.collections.companykata;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.eclipse.collections.api.bag.MutableBag;
-import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
-import org.eclipse.collections.impl.block.function.AddFunction;
-import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
-import org.eclipse.collections.impl.factory.Bags;
-import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 
 /**
- * Has a number, a {@link Customer}, a {@link List} of {@link LineItem}s, and a boolean that states whether or not the order
- * has been delivered. There is a class variable that contains the next order number.
+ * Has a number, a {@link MutableBag} of {@link LineItem}s, and a state that says whether or not the order
+ * has been delivered. Orders created by {@link Company#newOrder()} are numbered by the company's
+ * {@link OrderNumberAllocator}, and orders created with {@link #Order()} share one
+ * {@link SequentialOrderNumberAllocator} held in a class variable, so they are numbered in creation order across all
+ * threads.
+ * <p>
+ * The delivered state is not stored in the order: it is one bit in a bitmap indexed by order number, shared by the
+ * orders numbered by the same {@link OrderNumberAllocator}, so companies can count and list undelivered orders without
+ * visiting them.
+ * <p>
+ * Line items are stored as parallel primitive columns: an interned name id, a price and a number of occurrences per
+ * row, with one row per distinct line item. The order value is maintained as a running total, so {@link #getValue()}
+ * is O(1) and never allocates, and {@link #getLineItems()} is a {@link MutableBag} view of the columns.
+ * <p>
+ * Once the order has been added to a {@link Customer}, its line items are guarded by the customer's lock. Before that
+ * the order must only be used by one thread.
  */
 public class Order
 {
-    private static final AtomicInteger NEXT_ORDER_NUMBER = new AtomicInteger(1);
+    static final OrderNumberAllocator SHARED_ORDER_NUMBERS = new SequentialOrderNumberAllocator();
+    private static final int MAX_SCANNED_ROWS = 8;
+    private static final OrderDeliveries.Bitmap SHARED_DELIVERED = OrderDeliveries.deliveredBy(SHARED_ORDER_NUMBERS);
 
+    private final Company owner;
     private final int orderNumber;
-    private final MutableBag<LineItem> lineItems = Bags.mutable.empty();
-    private boolean isDelivered;
+    private final IntArrayList lineItemNameIds = new IntArrayList();
+    private final DoubleArrayList lineItemPrices = new DoubleArrayList();
+    private final IntArrayList lineItemOccurrences = new IntArrayList();
+    private final OrderLineItems lineItems = new OrderLineItems(this);
+    private int[] rowIndex;
+    private volatile int lineItemCount;
+    private volatile double value;
+    private volatile Customer customer;
 
     public Order()
     {
-        this.orderNumber = NEXT_ORDER_NUMBER.getAndIncrement();
+        this(null, SHARED_ORDER_NUMBERS.nextOrderNumber());
     }
 
+    /**
+     * Called by {@link Company#newOrder()}.
+     */
+    Order(Company owner, int orderNumber)
+    {
+        this.owner = owner;
+        this.orderNumber = orderNumber;
+    }
+
+    /**
+     * Resets the order numbers shared by orders created with {@link #Order()}. Orders created before the reset must no
+     * longer be used, as their delivered state is forgotten.
+     */
     public static void resetNextOrderNumber()
     {
-        NEXT_ORDER_NUMBER.set(1);
+        SHARED_ORDER_NUMBERS.reset();
+    }
+
+    public int getOrderNumber()
+    {
+        return this.orderNumber;
     }
 
     public void deliver()
     {
-        this.isDelivered = true;
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            this.deliverIfUndelivered();
+        }
+        else
+        {
+            synchronized (customer)
+            {
+                this.deliverIfUndelivered();
+            }
+        }
+    }
+
+    /**
+     * Delivers this order unless it has already been delivered, and returns whether it was delivered by this call.
+     * Called while holding the customer's lock.
+     */
+    boolean deliverIfUndelivered()
+    {
+        return this.getDeliveredOrders().set(this.orderNumber);
     }
 
     public boolean isDelivered()
     {
-        return this.isDelivered;
+        return this.getDeliveredOrders().get(this.orderNumber);
+    }
+
+    private OrderDeliveries.Bitmap getDeliveredOrders()
+    {
+        return this.owner == null ? SHARED_DELIVERED : this.owner.getDeliveries().getDelivered();
+    }
+
+    /**
+     * Returns the allocator that numbered this order.
+     */
+    OrderNumberAllocator getOrderNumberAllocator()
+    {
+        return this.owner == null ? SHARED_ORDER_NUMBERS : this.owner.getOrderNumberAllocator();
+    }
+
+    Customer getCustomer()
+    {
+        return this.customer;
     }
 
     public void addLineItem(LineItem aLineItem)
     {
-        this.lineItems.add(aLineItem);
+        this.addLineItems(aLineItem, 1);
     }
 
     public void addLineItems(LineItem aLineItem, int num)
     {
-        this.lineItems.addOccurrences(aLineItem, num);
+        if (num < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        this.changeLineItems(aLineItem, num);
+    }
+
+    /**
+     * Removes up to {@code num} occurrences of the line item, and returns whether there were any. Called through
+     * {@link #getLineItems()}.
+     */
+    boolean removeLineItems(LineItem aLineItem, int num)
+    {
+        if (num < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            return this.changeLineItems(aLineItem, -Math.min(num, this.occurrencesOf(aLineItem))) != 0;
+        }
+        synchronized (customer)
+        {
+            return this.changeLineItems(aLineItem, -Math.min(num, this.occurrencesOf(aLineItem))) != 0;
+        }
+    }
+
+    /**
+     * Sets the number of occurrences of the line item, and returns whether it changed. Called through
+     * {@link #getLineItems()}.
+     */
+    boolean setLineItemOccurrences(LineItem aLineItem, int num)
+    {
+        if (num < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            return this.changeLineItems(aLineItem, num - this.occurrencesOf(aLineItem)) != 0;
+        }
+        synchronized (customer)
+        {
+            return this.changeLineItems(aLineItem, num - this.occurrencesOf(aLineItem)) != 0;
+        }
+    }
+
+    /**
+     * Adds {@code delta} occurrences of the line item, or removes them if it is negative, and tells the customer.
+     * Returns {@code delta}.
+     */
+    private int changeLineItems(LineItem aLineItem, int delta)
+    {
+        if (delta != 0)
+        {
+            int nameId = LineItemNames.idOf(aLineItem.getName());
+            Customer customer = this.customer;
+            if (customer == null)
+            {
+                this.appendLineItems(nameId, aLineItem.getValue(), delta);
+            }
+            else
+            {
+                synchronized (customer)
+                {
+                    this.appendLineItems(nameId, aLineItem.getValue(), delta);
+                    if (delta > 0)
+                    {
+                        customer.lineItemsAdded(this, aLineItem, delta);
+                    }
+                    else
+                    {
+                        customer.lineItemsRemoved(this, aLineItem, -delta);
+                    }
+                }
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Adds the occurrences to the row with the same name and price if there is one, so each distinct line item has one
+     * row, and appends a new row otherwise. A negative number removes occurrences from the row, which must have that
+     * many, and the row is dropped when none are left.
+     */
+    private void appendLineItems(int nameId, double price, int num)
+    {
+        int row = this.rowOf(nameId, price);
+        if (row == -1)
+        {
+            this.lineItemNameIds.add(nameId);
+            this.lineItemPrices.add(price);
+            this.lineItemOccurrences.add(num);
+            this.indexRow(this.lineItemNameIds.size() - 1);
+        }
+        else
+        {
+            int occurrences = Math.addExact(this.lineItemOccurrences.get(row), num);
+            if (occurrences == 0)
+            {
+                this.lineItemNameIds.removeAtIndex(row);
+                this.lineItemPrices.removeAtIndex(row);
+                this.lineItemOccurrences.removeAtIndex(row);
+                this.rebuildRowIndex();
+            }
+            else
+            {
+                this.lineItemOccurrences.set(row, occurrences);
+            }
+        }
+        this.lineItemCount += num;
+        this.value += price * num;
+    }
+
+    /**
+     * Returns the row with the name and price, or -1. Orders with a few rows are scanned, and larger orders have an
+     * open addressing hash table from name and price to row.
+     */
+    private int rowOf(int nameId, double price)
+    {
+        int[] rowIndex = this.rowIndex;
+        if (rowIndex == null)
+        {
+            for (int i = this.lineItemNameIds.size() - 1; i >= 0; i--)
+            {
+                if (this.isRow(i, nameId, price))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = rowIndex.length - 1;
+        for (int slot = Order.slotOf(nameId, price, mask); rowIndex[slot] != 0; slot = (slot + 1) & mask)
+        {
+            int row = rowIndex[slot] - 1;
+            if (this.isRow(row, nameId, price))
+            {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isRow(int row, int nameId, double price)
+    {
+        return this.lineItemNameIds.get(row) == nameId && Double.compare(this.lineItemPrices.get(row), price) == 0;
+    }
+
+    /**
+     * Adds a new row to the hash table, building or growing the table once there are more than
+     * {@link #MAX_SCANNED_ROWS} rows. Slots hold the row plus one, so zero is an empty slot.
+     */
+    private void indexRow(int row)
+    {
+        int rows = row + 1;
+        if (this.rowIndex == null ? rows > MAX_SCANNED_ROWS : rows << 1 > this.rowIndex.length)
+        {
+            this.rebuildRowIndex();
+        }
+        else if (this.rowIndex != null)
+        {
+            this.putRow(this.rowIndex, row);
+        }
+    }
+
+    private void rebuildRowIndex()
+    {
+        int rows = this.lineItemNameIds.size();
+        if (rows <= MAX_SCANNED_ROWS)
+        {
+            this.rowIndex = null;
+            return;
+        }
+        int[] rowIndex = new int[Integer.highestOneBit(rows) << 2];
+        for (int row = 0; row < rows; row++)
+        {
+            this.putRow(rowIndex, row);
+        }
+        this.rowIndex = rowIndex;
     }
 
+    private void putRow(int[] rowIndex, int row)
+    {
+        int mask = rowIndex.length - 1;
+        int slot = Order.slotOf(this.lineItemNameIds.get(row), this.lineItemPrices.get(row), mask);
+        while (rowIndex[slot] != 0)
+        {
+            slot = (slot + 1) & mask;
+        }
+        rowIndex[slot] = row + 1;
+    }
+
+    private static int slotOf(int nameId, double price, int mask)
+    {
+        int hash = 31 * nameId + Double.hashCode(price);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Returns a {@link MutableBag} view of the line items: reading it reads this order's line item columns in place,
+     * and adding or removing line items through it updates this order, its value and its customer's total, as
+     * {@link #addLineItems(LineItem, int)} does. The bag's items are shared {@link LineItem} instances, and equal line
+     * items are counted as occurrences of one item. The view is created once per order, so calling this method does
+     * not allocate.
+     */
     public MutableBag<LineItem> getLineItems()
     {
         return this.lineItems;
     }
 
-    @Override
-    public String toString()
+    int getLineItemCount()
+    {
+        return this.lineItemCount;
+    }
+
+    int getDistinctLineItemCount()
+    {
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            return this.lineItemNameIds.size();
+        }
+        synchronized (customer)
+        {
+            return this.lineItemNameIds.size();
+        }
+    }
+
+    int occurrencesOf(LineItem aLineItem)
+    {
+        int nameId = LineItemNames.lookUpIdOf(aLineItem.getName());
+        if (nameId == LineItemNames.UNKNOWN_ID)
+        {
+            return 0;
+        }
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            return this.occurrencesOf(nameId, aLineItem.getValue());
+        }
+        synchronized (customer)
+        {
+            return this.occurrencesOf(nameId, aLineItem.getValue());
+        }
+    }
+
+    private int occurrencesOf(int nameId, double price)
+    {
+        int row = this.rowOf(nameId, price);
+        return row == -1 ? 0 : this.lineItemOccurrences.get(row);
+    }
+
+    /**
+     * Passes every occurrence of every line item to the procedure, like iterating {@link #getLineItems()}.
+     */
+    void forEachLineItem(Procedure<? super LineItem> procedure)
+    {
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            this.eachLineItem(procedure);
+        }
+        else
+        {
+            synchronized (customer)
+            {
+                this.eachLineItem(procedure);
+            }
+        }
+    }
+
+    private void eachLineItem(Procedure<? super LineItem> procedure)
     {
-        return "order " + this.orderNumber + " items: " + this.lineItems.size();
+        for (int i = 0; i < this.lineItemNameIds.size(); i++)
+        {
+            LineItem lineItem = this.lineItemAt(i);
+            for (int j = 0; j < this.lineItemOccurrences.get(i); j++)
+            {
+                procedure.value(lineItem);
+            }
+        }
     }
 
     /**
-     * Refactor to use {@link org.eclipse.collections.api.RichIterable#sumOfDouble(DoubleFunction)}.
+     * Passes each distinct line item to the procedure with its number of occurrences.
      */
+    void forEachLineItemWithOccurrences(ObjectIntProcedure<? super LineItem> procedure)
+    {
+        Customer customer = this.customer;
+        if (customer == null)
+        {
+            this.eachLineItemWithOccurrences(procedure);
+        }
+        else
+        {
+            synchronized (customer)
+            {
+                this.eachLineItemWithOccurrences(procedure);
+            }
+        }
+    }
+
+    private void eachLineItemWithOccurrences(ObjectIntProcedure<? super LineItem> procedure)
+    {
+        for (int i = 0; i < this.lineItemNameIds.size(); i++)
+        {
+            procedure.value(this.lineItemAt(i), this.lineItemOccurrences.get(i));
+        }
+    }
+
+    private LineItem lineItemAt(int index)
+    {
+        return LineItem.of(LineItemNames.nameOf(this.lineItemNameIds.get(index)), this.lineItemPrices.get(index));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "order " + this.orderNumber + " items: " + this.lineItemCount;
+    }
+
     public double getValue()
     {
-        Collection<Double> itemValues = Iterate.collect(this.lineItems, LineItem::getValue);
+        return this.value;
+    }
 
-        return CollectionAdapter.adapt(itemValues).injectInto(0.0, AddFunction.DOUBLE_TO_DOUBLE);
+    /**
+     * Called by {@link Customer#addOrder(Order)} while holding the customer's lock, and with {@code null} when the order
+     * is removed from its customer.
+     */
+    void setCustomer(Customer customer)
+    {
+        if (this.customer != null && customer != null && this.customer != customer)
+        {
+            throw new IllegalStateException(this + " already belongs to " + this.customer.getName());
+        }
+        this.customer = customer;
     }
 }
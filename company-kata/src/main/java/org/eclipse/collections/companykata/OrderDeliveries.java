@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+
+/**
+ * Tracks which orders a {@link Company} has and which of them have been delivered, as bitmaps indexed by order number.
+ * Counting delivered or undelivered orders reads whole words, and iterating undelivered order numbers skips 64 orders
+ * at a time where all are delivered.
+ * <p>
+ * The delivered bitmap is the only record of whether an order has been delivered: {@link Order#isDelivered()} reads
+ * it, and orders have no delivered field. Order numbers are only unique per {@link OrderNumberAllocator}, so there is
+ * one delivered bitmap per allocator, shared by every company and order that uses it, including orders that do not
+ * belong to a company yet. Each company also keeps a bitmap of the order numbers it has, one bit per order, and so can
+ * hold only one order per number. Resetting one of this package's allocators clears its delivered bitmap, as the
+ * numbers will be handed out again.
+ * <p>
+ * Bits are set and cleared with compare-and-set on 64 bit words, so no lock is needed. The bitmaps are split into
+ * pages of {@value #BITS_PER_PAGE} bits. A page is only allocated once an order number in its range is used.
+ */
+final class OrderDeliveries
+{
+    private static final int WORDS_PER_PAGE = 1024;
+    private static final int BITS_PER_PAGE = WORDS_PER_PAGE * Long.SIZE;
+
+    private static final Map<OrderNumberAllocator, Bitmap> DELIVERED_BY_ALLOCATOR =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Bitmap orders = new Bitmap();
+    private final Bitmap delivered;
+
+    OrderDeliveries(OrderNumberAllocator orderNumbers)
+    {
+        this.delivered = OrderDeliveries.deliveredBy(orderNumbers);
+    }
+
+    /**
+     * Returns the bitmap of delivered order numbers of orders numbered by the allocator.
+     */
+    static Bitmap deliveredBy(OrderNumberAllocator orderNumbers)
+    {
+        return DELIVERED_BY_ALLOCATOR.computeIfAbsent(orderNumbers, each -> new Bitmap());
+    }
+
+    /**
+     * Called when an allocator is reset, as orders numbered before the reset can no longer be told apart from new ones.
+     */
+    static void allocatorReset(OrderNumberAllocator orderNumbers)
+    {
+        Bitmap delivered = DELIVERED_BY_ALLOCATOR.get(orderNumbers);
+        if (delivered != null)
+        {
+            delivered.clearAll();
+        }
+    }
+
+    Bitmap getDelivered()
+    {
+        return this.delivered;
+    }
+
+    /**
+     * Adds an order number, and returns whether it was added. It is not added if it was added before.
+     */
+    boolean register(int orderNumber)
+    {
+        return this.orders.set(orderNumber);
+    }
+
+    /**
+     * Removes an order number added by {@link #register(int)}.
+     */
+    void unregister(int orderNumber)
+    {
+        this.orders.clear(orderNumber);
+    }
+
+    int deliveredCount()
+    {
+        return this.count(true);
+    }
+
+    int undeliveredCount()
+    {
+        return this.count(false);
+    }
+
+    private int count(boolean isDelivered)
+    {
+        AtomicLongArray[] orderPages = this.orders.pages;
+        AtomicLongArray[] deliveredPages = this.delivered.pages;
+        int count = 0;
+        for (int page = 0; page < orderPages.length; page++)
+        {
+            AtomicLongArray orderWords = orderPages[page];
+            if (orderWords == null)
+            {
+                continue;
+            }
+            AtomicLongArray deliveredWords = page < deliveredPages.length ? deliveredPages[page] : null;
+            for (int word = 0; word < WORDS_PER_PAGE; word++)
+            {
+                long deliveredWord = deliveredWords == null ? 0L : deliveredWords.get(word);
+                count += Long.bitCount(orderWords.get(word) & (isDelivered ? deliveredWord : ~deliveredWord));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Passes the numbers of the registered orders that have not been delivered to the procedure, in ascending order.
+     */
+    void forEachUndelivered(IntProcedure procedure)
+    {
+        AtomicLongArray[] orderPages = this.orders.pages;
+        AtomicLongArray[] deliveredPages = this.delivered.pages;
+        for (int page = 0; page < orderPages.length; page++)
+        {
+            AtomicLongArray orderWords = orderPages[page];
+            if (orderWords == null)
+            {
+                continue;
+            }
+            AtomicLongArray deliveredWords = page < deliveredPages.length ? deliveredPages[page] : null;
+            for (int word = 0; word < WORDS_PER_PAGE; word++)
+            {
+                long undelivered = orderWords.get(word);
+                if (deliveredWords != null)
+                {
+                    undelivered &= ~deliveredWords.get(word);
+                }
+                while (undelivered != 0L)
+                {
+                    int bit = Long.numberOfTrailingZeros(undelivered);
+                    procedure.value(page * BITS_PER_PAGE + word * Long.SIZE + bit);
+                    undelivered &= undelivered - 1L;
+                }
+            }
+        }
+    }
+
+    static final class Bitmap
+    {
+        private volatile AtomicLongArray[] pages = new AtomicLongArray[0];
+
+        boolean get(int index)
+        {
+            AtomicLongArray[] pages = this.pages;
+            int page = index / BITS_PER_PAGE;
+            if (page >= pages.length || pages[page] == null)
+            {
+                return false;
+            }
+            return (pages[page].get(Bitmap.wordIndex(index)) & Bitmap.mask(index)) != 0L;
+        }
+
+        /**
+         * Sets the bit and returns whether it was clear.
+         */
+        boolean set(int index)
+        {
+            AtomicLongArray words = this.pageOf(index);
+            int word = Bitmap.wordIndex(index);
+            long mask = Bitmap.mask(index);
+            while (true)
+            {
+                long current = words.get(word);
+                if ((current & mask) != 0L)
+                {
+                    return false;
+                }
+                if (words.compareAndSet(word, current, current | mask))
+                {
+                    return true;
+                }
+            }
+        }
+
+        private void clear(int index)
+        {
+            AtomicLongArray[] pages = this.pages;
+            int page = index / BITS_PER_PAGE;
+            if (page >= pages.length || pages[page] == null)
+            {
+                return;
+            }
+            AtomicLongArray words = pages[page];
+            int word = Bitmap.wordIndex(index);
+            long mask = Bitmap.mask(index);
+            while (true)
+            {
+                long current = words.get(word);
+                if ((current & mask) == 0L || words.compareAndSet(word, current, current & ~mask))
+                {
+                    return;
+                }
+            }
+        }
+
+        private synchronized void clearAll()
+        {
+            this.pages = new AtomicLongArray[0];
+        }
+
+        private AtomicLongArray pageOf(int index)
+        {
+            if (index < 0)
+            {
+                throw new IllegalArgumentException("Order numbers must not be negative: " + index);
+            }
+            int page = index / BITS_PER_PAGE;
+            AtomicLongArray[] pages = this.pages;
+            if (page < pages.length && pages[page] != null)
+            {
+                return pages[page];
+            }
+            synchronized (this)
+            {
+                pages = this.pages;
+                if (page >= pages.length)
+                {
+                    AtomicLongArray[] grown = new AtomicLongArray[page + 1];
+                    System.arraycopy(pages, 0, grown, 0, pages.length);
+                    pages = grown;
+                }
+                else if (pages[page] != null)
+                {
+                    return pages[page];
+                }
+                else
+                {
+                    pages = pages.clone();
+                }
+                pages[page] = new AtomicLongArray(WORDS_PER_PAGE);
+                this.pages = pages;
+                return pages[page];
+            }
+        }
+
+        private static int wordIndex(int index)
+        {
+            return (index % BITS_PER_PAGE) >>> 6;
+        }
+
+        private static long mask(int index)
+        {
+            return 1L << index;
+        }
+    }
+}
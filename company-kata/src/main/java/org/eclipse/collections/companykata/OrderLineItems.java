@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.impl.bag.mutable.AbstractMutableBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+
+/**
+ * The {@link MutableBag} returned by {@link Order#getLineItems()}. It holds no line items of its own: reads go to the
+ * order's line item columns, and writes go through the order, so the order's value, its customer's total and the
+ * company's listeners stay up to date.
+ * <p>
+ * Bulk reads and writes take the customer's lock once per line item or per pass over the order, as the order's own
+ * methods do. Iterators iterate over a copy of the line items taken when they are created.
+ */
+final class OrderLineItems extends AbstractMutableBag<LineItem>
+{
+    private final Order order;
+
+    OrderLineItems(Order order)
+    {
+        this.order = order;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.order.getLineItemCount();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.order.getDistinctLineItemCount();
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return item instanceof LineItem ? this.order.occurrencesOf((LineItem) item) : 0;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super LineItem> procedure)
+    {
+        this.order.forEachLineItemWithOccurrences(procedure);
+    }
+
+    @Override
+    public void each(Procedure<? super LineItem> procedure)
+    {
+        this.order.forEachLineItem(procedure);
+    }
+
+    @Override
+    public Iterator<LineItem> iterator()
+    {
+        MutableList<LineItem> lineItems = FastList.newList(this.size());
+        this.each(lineItems::add);
+        Iterator<LineItem> iterator = lineItems.iterator();
+        return new Iterator<LineItem>()
+        {
+            private LineItem last;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public LineItem next()
+            {
+                this.last = iterator.next();
+                return this.last;
+            }
+
+            @Override
+            public void remove()
+            {
+                if (this.last == null)
+                {
+                    throw new IllegalStateException();
+                }
+                OrderLineItems.this.order.removeLineItems(this.last, 1);
+                this.last = null;
+            }
+        };
+    }
+
+    @Override
+    protected RichIterable<LineItem> getKeysView()
+    {
+        MutableList<LineItem> keys = FastList.newList();
+        this.forEachWithOccurrences((lineItem, occurrences) -> keys.add(lineItem));
+        return keys;
+    }
+
+    @Override
+    public boolean add(LineItem lineItem)
+    {
+        this.order.addLineItem(lineItem);
+        return true;
+    }
+
+    @Override
+    public int addOccurrences(LineItem item, int occurrences)
+    {
+        this.order.addLineItems(item, occurrences);
+        return this.occurrencesOf(item);
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        return item instanceof LineItem && this.order.removeLineItems((LineItem) item, occurrences);
+    }
+
+    @Override
+    public boolean setOccurrences(LineItem item, int occurrences)
+    {
+        return this.order.setLineItemOccurrences(item, occurrences);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.getKeysView().each(lineItem -> this.setOccurrences(lineItem, 0));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super LineItem> predicate)
+    {
+        boolean changed = false;
+        for (LineItem lineItem : this.getKeysView().select(predicate))
+        {
+            changed |= this.setOccurrences(lineItem, 0);
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super LineItem, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(lineItem -> predicate.accept(lineItem, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object item : iterable)
+        {
+            if (item instanceof LineItem)
+            {
+                changed |= this.setOccurrences((LineItem) item, 0);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public MutableBag<LineItem> with(LineItem element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public MutableBag<LineItem> without(LineItem element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public MutableBag<LineItem> withAll(Iterable<? extends LineItem> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableBag<LineItem> withoutAll(Iterable<? extends LineItem> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableBag<LineItem> newEmpty()
+    {
+        return HashBag.newBag();
+    }
+
+    @Override
+    public MutableBag<LineItem> selectByOccurrences(IntPredicate predicate)
+    {
+        MutableBag<LineItem> result = HashBag.newBag();
+        this.forEachWithOccurrences((lineItem, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(lineItem, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public MutableMap<LineItem, Integer> toMapOfItemToCount()
+    {
+        MutableMap<LineItem, Integer> result = UnifiedMap.newMap();
+        this.forEachWithOccurrences(result::put);
+        return result;
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, LineItem> groupBy(Function<? super LineItem, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, LineItem> groupByEach(Function<? super LineItem, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        return this.toMapOfItemToCount().equals(bag.toMapOfItemToCount());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = new int[1];
+        this.forEachWithOccurrences((lineItem, occurrences) -> hashCode[0] += lineItem.hashCode() ^ occurrences);
+        return hashCode[0];
+    }
+}
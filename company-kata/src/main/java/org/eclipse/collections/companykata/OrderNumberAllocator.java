@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+/**
+ * Hands out order numbers. A {@link Company} owns one, and every {@link Order} created by
+ * {@link Company#newOrder()} takes its number from it, so each company has its own sequence of order numbers.
+ * Implementations must be safe to call from many threads.
+ */
+public interface OrderNumberAllocator
+{
+    /**
+     * Returns an order number that this allocator has not returned since it was created or last reset. Order numbers
+     * are positive.
+     */
+    int nextOrderNumber();
+
+    /**
+     * Starts numbering from 1 again. Intended for tests, and must not be called while orders are being created. Orders
+     * numbered before the reset must no longer be used, as the delivered state of an order is kept by order number.
+     */
+    void reset();
+}
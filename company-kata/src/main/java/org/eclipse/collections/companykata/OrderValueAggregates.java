@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+
+/**
+ * Total order values by city and by item name, kept up to date in place as a {@link CompanyListener}. Each added line
+ * item is an O(1) update, and reads do not scan the company.
+ * <p>
+ * Each total is a compensated (Kahan) sum, as in {@code sumByDouble}, so it stays within rounding of the exact total
+ * however many values are added and in whatever order. The aggregates may be subscribed to a concurrent company: updates
+ * and reads are synchronized. Reading one total is O(1), and reading all of them returns an immutable copy.
+ *
+ * <pre>
+ * OrderValueAggregates aggregates = new OrderValueAggregates();
+ * company.subscribe(aggregates);
+ * double londonTotal = aggregates.getTotalOrderValueOfCity("London");
+ * </pre>
+ */
+public class OrderValueAggregates implements CompanyListener
+{
+    private final MutableObjectDoubleMap<String> totalOrderValuesByCity = ObjectDoubleHashMap.newMap();
+    private final MutableObjectDoubleMap<String> compensationsByCity = ObjectDoubleHashMap.newMap();
+    private final MutableObjectDoubleMap<String> totalOrderValuesByItem = ObjectDoubleHashMap.newMap();
+    private final MutableObjectDoubleMap<String> compensationsByItem = ObjectDoubleHashMap.newMap();
+
+    /**
+     * Returns the total order value of the customers in the city, or 0.0 if there are none, without copying the totals.
+     */
+    public synchronized double getTotalOrderValueOfCity(String city)
+    {
+        return this.totalOrderValuesByCity.get(city);
+    }
+
+    /**
+     * Returns the total value of the line items with the name, or 0.0 if there are none, without copying the totals.
+     */
+    public synchronized double getTotalOrderValueOfItem(String itemName)
+    {
+        return this.totalOrderValuesByItem.get(itemName);
+    }
+
+    /**
+     * Same result as {@code company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue)}, up to
+     * rounding. Returns a copy, so this is O(number of cities).
+     */
+    public synchronized ObjectDoubleMap<String> getTotalOrderValuesByCity()
+    {
+        return this.totalOrderValuesByCity.toImmutable();
+    }
+
+    /**
+     * Same result as {@code company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName,
+     * LineItem::getValue)}, up to rounding. Returns a copy, so this is O(number of item names).
+     */
+    public synchronized ObjectDoubleMap<String> getTotalOrderValuesByItem()
+    {
+        return this.totalOrderValuesByItem.toImmutable();
+    }
+
+    @Override
+    public synchronized void customerAdded(Customer customer)
+    {
+        OrderValueAggregates.add(this.totalOrderValuesByCity, this.compensationsByCity, customer.getCity(), 0.0);
+        customer.getOrders().each(order ->
+        {
+            if (order != null)
+            {
+                this.orderAdded(customer, order);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void orderAdded(Customer customer, Order order)
+    {
+        order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                this.lineItemsAdded(customer, order, lineItem, occurrences));
+    }
+
+    @Override
+    public synchronized void orderRemoved(Customer customer, Order order)
+    {
+        order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                this.lineItemsRemoved(customer, order, lineItem, occurrences));
+    }
+
+    @Override
+    public synchronized void lineItemsAdded(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+        double value = lineItem.getValue() * occurrences;
+        OrderValueAggregates.add(this.totalOrderValuesByCity, this.compensationsByCity, customer.getCity(), value);
+        OrderValueAggregates.add(this.totalOrderValuesByItem, this.compensationsByItem, lineItem.getName(), value);
+    }
+
+    @Override
+    public synchronized void lineItemsRemoved(Customer customer, Order order, LineItem lineItem, int occurrences)
+    {
+        this.lineItemsAdded(customer, order, lineItem, -occurrences);
+    }
+
+    /**
+     * The same compensated step as Eclipse Collections' {@code sumByDouble}.
+     */
+    private static void add(
+            MutableObjectDoubleMap<String> totals,
+            MutableObjectDoubleMap<String> compensations,
+            String key,
+            double value)
+    {
+        double adjustedValue = value - compensations.get(key);
+        double currentTotal = totals.get(key);
+        double nextTotal = currentTotal + adjustedValue;
+        compensations.put(key, nextTotal - currentTotal - adjustedValue);
+        totals.put(key, nextTotal);
+    }
+}
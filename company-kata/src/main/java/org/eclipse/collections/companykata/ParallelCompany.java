@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+
+/**
+ * A parallel view of a {@link Company}, created by {@link Company#asParallel(ExecutorService, int)}. Orders and line
+ * items are reached through {@link ParallelListIterable#flatCollect(Function)} one batch of customers at a time, so
+ * no company-wide list of orders is built.
+ */
+public class ParallelCompany
+{
+    private final Company company;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    ParallelCompany(Company company, ExecutorService executorService, int batchSize)
+    {
+        this.company = company;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    public ParallelListIterable<Customer> getCustomers()
+    {
+        return this.company.getCustomers().asParallel(this.executorService, this.batchSize);
+    }
+
+    public ParallelListIterable<Order> getOrders()
+    {
+        return this.getCustomers().flatCollect(Customer::getOrders);
+    }
+
+    public ParallelListIterable<LineItem> getLineItems()
+    {
+        return this.getOrders().flatCollect(Order::getLineItems);
+    }
+
+    /**
+     * Same result as {@code company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue)}, up to
+     * rounding. See {@link #sumInBatches(Procedure2)}.
+     */
+    public ObjectDoubleMap<String> totalOrderValuesByCity()
+    {
+        return this.sumInBatches((customer, sums) -> sums.add(customer.getCity(), customer.getTotalOrderValue()))
+                .getTotals();
+    }
+
+    /**
+     * Same result as {@code company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName,
+     * LineItem::getValue)}, up to rounding. The line items are read in place, without building their bags. See
+     * {@link #sumInBatches(Procedure2)}.
+     */
+    public ObjectDoubleMap<String> totalOrderValuesByItem()
+    {
+        return this.sumInBatches((customer, sums) -> customer.getOrders().each(order ->
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) ->
+                        sums.add(lineItem.getName(), lineItem.getValue() * occurrences))))
+                .getTotals();
+    }
+
+    /**
+     * The totals of {@link #totalOrderValuesByCity()} as a map of boxed values, as {@code aggregateBy} returns.
+     */
+    public MapIterable<String, Double> aggregateOrderValuesByCity()
+    {
+        MutableMap<String, Double> result = UnifiedMap.newMap();
+        this.totalOrderValuesByCity().forEachKeyValue(result::put);
+        return result;
+    }
+
+    /**
+     * Groups customers by the price of the most expensive item they ordered. The prices are found in parallel, and each
+     * group lists its customers in company order, as the serial {@code groupBy} does. Customers who have not ordered
+     * any items have no most expensive item, so they are left out.
+     */
+    public ListMultimap<Double, Customer> customersByMostExpensiveItem()
+    {
+        MutableList<Customer> customers = this.company.getCustomers();
+        MutableList<Double> maxima = this.collectInOrder(customers, ParallelCompany::mostExpensiveItemValue);
+        MutableListMultimap<Double, Customer> result = FastListMultimap.newMultimap();
+        for (int i = 0; i < customers.size(); i++)
+        {
+            Double maximum = maxima.get(i);
+            if (maximum != null)
+            {
+                result.put(maximum, customers.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the most expensive line item of the customer's orders, or {@code null} if they have none.
+     */
+    private static Double mostExpensiveItemValue(Customer customer)
+    {
+        MutableDoubleList values = DoubleLists.mutable.empty();
+        customer.getOrders().each(order ->
+                order.forEachLineItemWithOccurrences((lineItem, occurrences) -> values.add(lineItem.getValue())));
+        return values.isEmpty() ? null : values.max();
+    }
+
+    public Customer customerWithMaxTotalOrderValue()
+    {
+        return this.getCustomers().maxBy(Customer::getTotalOrderValue);
+    }
+
+    /**
+     * Same as {@link Company#deliverAll(Predicate, Predicate)}, run in batches of customers on this view's executor.
+     */
+    public DeliveryReport deliverAll(
+            Predicate<? super Customer> customerPredicate,
+            Predicate<? super Order> orderPredicate)
+    {
+        DeliveryCounter counter = new DeliveryCounter(customerPredicate, orderPredicate);
+        this.getCustomers().forEach(counter);
+        return counter.toReport();
+    }
+
+    /**
+     * Adds the values of each batch of customers to a compensated (Kahan) sum per key on this view's executor, and then
+     * adds the sums of the batches together in customer order. The result does not depend on which thread ran which
+     * batch, so it is the same on every call for the same company and batch size. It is within rounding of the serial
+     * {@code sumByDouble}, which adds the same values one at a time, but it is not always equal to it to the last bit.
+     */
+    private CompensatedSums sumInBatches(Procedure2<? super Customer, ? super CompensatedSums> procedure)
+    {
+        MutableList<Customer> customers = this.company.getCustomers();
+        int size = customers.size();
+        CompensatedSums result = new CompensatedSums();
+        if (size == 0)
+        {
+            return result;
+        }
+        MutableList<CompensatedSums> partials = ParallelIterate.collect(
+                Interval.fromToBy(0, size - 1, this.batchSize),
+                from ->
+                {
+                    CompensatedSums partial = new CompensatedSums();
+                    for (int i = from; i < Math.min(from + this.batchSize, size); i++)
+                    {
+                        procedure.value(customers.get(i), partial);
+                    }
+                    return partial;
+                },
+                FastList.<CompensatedSums>newList(),
+                1,
+                this.executorService,
+                false);
+        partials.each(result::addAll);
+        return result;
+    }
+
+    /**
+     * Applies the function to batches of customers on this view's executor, and returns the results in customer order.
+     */
+    private <V> MutableList<V> collectInOrder(
+            MutableList<Customer> customers,
+            Function<? super Customer, V> function)
+    {
+        return ParallelIterate.collect(
+                customers,
+                function,
+                FastList.<V>newList(customers.size()),
+                this.batchSize,
+                this.executorService,
+                false);
+    }
+
+    /**
+     * Compensated (Kahan) sums per key, with the same step as Eclipse Collections' {@code sumByDouble}.
+     */
+    private static final class CompensatedSums
+    {
+        private final MutableObjectDoubleMap<String> totals = ObjectDoubleHashMap.newMap();
+        private final MutableObjectDoubleMap<String> compensations = ObjectDoubleHashMap.newMap();
+
+        void add(String key, double value)
+        {
+            double adjustedValue = value - this.compensations.get(key);
+            double currentTotal = this.totals.get(key);
+            double nextTotal = currentTotal + adjustedValue;
+            this.compensations.put(key, nextTotal - currentTotal - adjustedValue);
+            this.totals.put(key, nextTotal);
+        }
+
+        /**
+         * Adds the total of each key of the other sums, and then the part of it lost to rounding.
+         */
+        void addAll(CompensatedSums other)
+        {
+            other.totals.forEachKeyValue((key, total) ->
+            {
+                this.add(key, total);
+                this.add(key, -other.compensations.get(key));
+            });
+        }
+
+        ObjectDoubleMap<String> getTotals()
+        {
+            return this.totals;
+        }
+    }
+}
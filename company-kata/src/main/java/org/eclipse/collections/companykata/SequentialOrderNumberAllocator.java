@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link OrderNumberAllocator} backed by one atomic counter, so order numbers are handed out in a single sequence
+ * across all threads, with no gaps. Orders created with {@link Order#Order()} are numbered this way.
+ * <p>
+ * Every call writes the same counter, so when many cores create orders at once a {@link BlockOrderNumberAllocator}
+ * given to the company scales better.
+ */
+public final class SequentialOrderNumberAllocator implements OrderNumberAllocator
+{
+    private final AtomicInteger nextOrderNumber = new AtomicInteger(1);
+
+    @Override
+    public int nextOrderNumber()
+    {
+        int orderNumber = this.nextOrderNumber.getAndIncrement();
+        if (orderNumber < 1)
+        {
+            throw new IllegalStateException("No order numbers left");
+        }
+        return orderNumber;
+    }
+
+    @Override
+    public void reset()
+    {
+        this.nextOrderNumber.set(1);
+        OrderDeliveries.allocatorReset(this);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * A customer in a {@link CompanySnapshot}. Its values are read from the snapshot on each call.
+ */
+public final class SnapshotCustomer
+{
+    private final CompanySnapshot snapshot;
+    private final int index;
+
+    SnapshotCustomer(CompanySnapshot snapshot, int index)
+    {
+        this.snapshot = snapshot;
+        this.index = index;
+    }
+
+    public String getName()
+    {
+        return this.snapshot.customerName(this.index);
+    }
+
+    public String getCity()
+    {
+        return this.snapshot.customerCity(this.index);
+    }
+
+    public double getTotalOrderValue()
+    {
+        return this.snapshot.customerTotalOrderValue(this.index);
+    }
+
+    public int getOrderCount()
+    {
+        return this.snapshot.customerEndOrder(this.index) - this.snapshot.customerFirstOrder(this.index);
+    }
+
+    /**
+     * Returns a new list of views of this customer's orders, in the order they were added.
+     */
+    public MutableList<SnapshotOrder> getOrders()
+    {
+        int firstOrder = this.snapshot.customerFirstOrder(this.index);
+        int endOrder = this.snapshot.customerEndOrder(this.index);
+        MutableList<SnapshotOrder> orders = FastList.newList(endOrder - firstOrder);
+        for (int i = firstOrder; i < endOrder; i++)
+        {
+            orders.add(new SnapshotOrder(this.snapshot, i));
+        }
+        return orders;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getName() + " (" + this.getCity() + ")";
+    }
+}
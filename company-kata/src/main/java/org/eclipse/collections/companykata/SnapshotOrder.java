@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+
+/**
+ * An order in a {@link CompanySnapshot}. Its values are read from the snapshot on each call.
+ */
+public final class SnapshotOrder
+{
+    private final CompanySnapshot snapshot;
+    private final int index;
+
+    SnapshotOrder(CompanySnapshot snapshot, int index)
+    {
+        this.snapshot = snapshot;
+        this.index = index;
+    }
+
+    public int getOrderNumber()
+    {
+        return this.snapshot.orderNumber(this.index);
+    }
+
+    public boolean isDelivered()
+    {
+        return this.snapshot.orderDelivered(this.index);
+    }
+
+    public double getValue()
+    {
+        return this.snapshot.orderValue(this.index);
+    }
+
+    /**
+     * Returns a read-only copy of the line items as a {@link MutableBag} of shared {@link LineItem} instances, as the
+     * snapshot cannot change.
+     */
+    public MutableBag<LineItem> getLineItems()
+    {
+        MutableBag<LineItem> lineItems = HashBag.newBag();
+        this.forEachLineItemWithOccurrences(lineItems::addOccurrences);
+        return lineItems.asUnmodifiable();
+    }
+
+    /**
+     * Passes each distinct line item to the procedure with its number of occurrences, as equal line items of an order
+     * are written as one row.
+     */
+    public void forEachLineItemWithOccurrences(ObjectIntProcedure<? super LineItem> procedure)
+    {
+        int endLineItem = this.snapshot.orderEndLineItem(this.index);
+        for (int i = this.snapshot.orderFirstLineItem(this.index); i < endLineItem; i++)
+        {
+            procedure.value(this.snapshot.lineItem(i), this.snapshot.lineItemOccurrences(i));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "order " + this.getOrderNumber() + " value: " + this.getValue();
+    }
+}
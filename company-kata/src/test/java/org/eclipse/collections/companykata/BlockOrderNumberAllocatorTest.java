@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockOrderNumberAllocatorTest
+{
+    @Test
+    public void consecutiveNumbersOnOneThread()
+    {
+        OrderNumberAllocator allocator = new BlockOrderNumberAllocator(4);
+        MutableIntList orderNumbers = new IntArrayList();
+        for (int i = 0; i < 10; i++)
+        {
+            orderNumbers.add(allocator.nextOrderNumber());
+        }
+        Assert.assertEquals(IntArrayList.newListWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), orderNumbers);
+
+        allocator.reset();
+        Assert.assertEquals(1, allocator.nextOrderNumber());
+        Assert.assertEquals(2, allocator.nextOrderNumber());
+    }
+
+    @Test
+    public void threadsReserveSeparateBlocks() throws Exception
+    {
+        int threads = 8;
+        int perThread = 10_000;
+        OrderNumberAllocator allocator = new BlockOrderNumberAllocator(16);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<MutableIntList>> futures = Lists.mutable.empty();
+            for (int i = 0; i < threads; i++)
+            {
+                futures.add(executorService.submit(() ->
+                {
+                    MutableIntList orderNumbers = new IntArrayList(perThread);
+                    for (int j = 0; j < perThread; j++)
+                    {
+                        orderNumbers.add(allocator.nextOrderNumber());
+                    }
+                    return orderNumbers;
+                }));
+            }
+            MutableIntSet all = new IntHashSet();
+            for (Future<MutableIntList> future : futures)
+            {
+                MutableIntList orderNumbers = future.get();
+                Assert.assertEquals(orderNumbers.toSortedList(), orderNumbers);
+                all.addAll(orderNumbers);
+            }
+            Assert.assertEquals(threads * perThread, all.size());
+            Assert.assertTrue(all.min() >= 1);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blockSizeMustBePositive()
+    {
+        new BlockOrderNumberAllocator(0);
+    }
+}
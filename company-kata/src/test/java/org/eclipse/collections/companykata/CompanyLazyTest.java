@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.factory.Bags;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Checks that the lazy order and line item views give the same results as {@link Company#getOrders()}.
+ */
+public class CompanyLazyTest extends CompanyDomainForKata
+{
+    @Test
+    public void asLazyOrders()
+    {
+        Assert.assertEquals(this.company.getOrders(), this.company.asLazyOrders().toList());
+        Assert.assertEquals(5, this.company.asLazyOrders().size());
+    }
+
+    @Test
+    public void asLazyLineItems()
+    {
+        LazyIterable<LineItem> lineItems = this.company.asLazyLineItems();
+        Assert.assertEquals(this.company.getOrders().flatCollect(Order::getLineItems).toBag(), lineItems.toBag());
+        Assert.assertEquals(Bags.mutable.withAll(lineItems), lineItems.toBag());
+        Assert.assertEquals(
+                this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue),
+                lineItems.sumByDouble(LineItem::getName, LineItem::getValue));
+    }
+
+    @Test
+    public void sortedOrders()
+    {
+        MutableSortedBag<Double> orderedPrices = this.company.asLazyLineItems()
+                .collect(LineItem::getValue)
+                .select(Predicates.greaterThan(7.5))
+                .toSortedBag(Collections.reverseOrder());
+
+        Assert.assertEquals(
+                this.company.getOrders().flatCollect(Order::getLineItems).collect(LineItem::getValue).select(Predicates.greaterThan(7.5)).toSortedBag(Collections.reverseOrder()),
+                orderedPrices);
+    }
+
+    @Test
+    public void lazyLineItemsAllocateIndependentlyOfOrderCount()
+    {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        Company small = CompanyLazyTest.companyWithOrders(10);
+        Company large = CompanyLazyTest.companyWithOrders(10_000);
+
+        long smallBytes = 0L;
+        long largeBytes = 0L;
+        for (int i = 0; i < 20; i++)
+        {
+            smallBytes = CompanyLazyTest.bytesAllocatedByQuery(threadMXBean, small);
+            largeBytes = CompanyLazyTest.bytesAllocatedByQuery(threadMXBean, large);
+        }
+        Assert.assertTrue(
+                "lazy query allocated " + largeBytes + " bytes for 10,000 orders and " + smallBytes + " bytes for 10",
+                largeBytes < smallBytes + 10_000L);
+    }
+
+    private static Company companyWithOrders(int orderCount)
+    {
+        Company company = new Company("Lazy Company");
+        for (int i = 0; i < orderCount; i++)
+        {
+            Order order = new Order();
+            order.addLineItem(LineItem.of("shed", 50.0));
+            order.addLineItems(LineItem.of("cup", 1.5), 3);
+            Customer customer = new Customer("Customer " + i, "London");
+            customer.addOrder(order);
+            company.addCustomer(customer);
+        }
+        return company;
+    }
+
+    private static long bytesAllocatedByQuery(com.sun.management.ThreadMXBean threadMXBean, Company company)
+    {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        double total = company.asLazyLineItems().select(each -> each.getValue() > 7.5).sumOfDouble(LineItem::getValue);
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        Assert.assertTrue(total > 0.0);
+        return after - before;
+    }
+}
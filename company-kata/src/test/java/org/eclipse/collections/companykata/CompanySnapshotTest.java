@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CompanySnapshotTest extends CompanyDomainForKata
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void customersOrdersAndLineItems() throws IOException
+    {
+        this.company.getCustomerNamed("Bill").getOrders().get(1).deliver();
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        CompanySnapshot.write(this.company, path);
+
+        try (CompanySnapshot snapshot = CompanySnapshot.open(path))
+        {
+            Assert.assertEquals("Bloggs Shed Supplies", snapshot.getName());
+            Assert.assertEquals(3, snapshot.getCustomerCount());
+            for (Customer customer : this.company.getCustomers())
+            {
+                SnapshotCustomer snapshotCustomer = snapshot.getCustomerNamed(customer.getName());
+                Assert.assertEquals(customer.getName(), snapshotCustomer.getName());
+                Assert.assertEquals(customer.getCity(), snapshotCustomer.getCity());
+                Assert.assertEquals(customer.getTotalOrderValue(), snapshotCustomer.getTotalOrderValue(), 0.0);
+
+                MutableList<Order> orders = customer.getOrders();
+                MutableList<SnapshotOrder> snapshotOrders = snapshotCustomer.getOrders();
+                Assert.assertEquals(orders.size(), snapshotCustomer.getOrderCount());
+                Assert.assertEquals(
+                        orders.collectInt(Order::getOrderNumber),
+                        snapshotOrders.collectInt(SnapshotOrder::getOrderNumber));
+                Assert.assertEquals(
+                        orders.collectBoolean(Order::isDelivered),
+                        snapshotOrders.collectBoolean(SnapshotOrder::isDelivered));
+                Assert.assertEquals(
+                        orders.collectDouble(Order::getValue),
+                        snapshotOrders.collectDouble(SnapshotOrder::getValue));
+                Assert.assertEquals(
+                        orders.collect(Order::getLineItems),
+                        snapshotOrders.collect(SnapshotOrder::getLineItems));
+            }
+            Assert.assertEquals(LineItem.of("shed", 50.0), snapshot.getCustomer(0).getOrders().get(0).getLineItems()
+                    .detect(lineItem -> "shed".equals(lineItem.getName())));
+            Assert.assertNull(snapshot.getCustomerNamed("Bert"));
+            Assert.assertNull(snapshot.getCustomerNamed(null));
+
+            MutableList<Order> orders = this.company.getOrders();
+            Assert.assertEquals(orders.size(), snapshot.getOrderCount());
+            Assert.assertEquals(
+                    orders.collectInt(Order::getOrderNumber),
+                    snapshot.getOrders().collectInt(SnapshotOrder::getOrderNumber));
+        }
+    }
+
+    @Test
+    public void customerWithoutAName() throws IOException
+    {
+        Customer noName = new Customer(null, "Leeds");
+        this.company.addCustomer(noName);
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        CompanySnapshot.write(this.company, path);
+
+        try (CompanySnapshot snapshot = CompanySnapshot.open(path))
+        {
+            Assert.assertSame(noName, this.company.getCustomerNamed(null));
+            Assert.assertEquals("Leeds", snapshot.getCustomerNamed(null).getCity());
+        }
+    }
+
+    @Test
+    public void firstCustomerWithNameWins() throws IOException
+    {
+        Customer otherFred = new Customer("Fred", null);
+        this.company.addCustomer(otherFred);
+        for (int i = 0; i < 100; i++)
+        {
+            this.company.addCustomer(new Customer("Customer " + i, "City " + i % 7));
+        }
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        CompanySnapshot.write(this.company, path);
+
+        try (CompanySnapshot snapshot = CompanySnapshot.open(path))
+        {
+            Assert.assertEquals("London", snapshot.getCustomerNamed("Fred").getCity());
+            Assert.assertNull(snapshot.getCustomer(3).getCity());
+            for (int i = 0; i < 100; i++)
+            {
+                SnapshotCustomer customer = snapshot.getCustomerNamed("Customer " + i);
+                Assert.assertEquals("City " + i % 7, customer.getCity());
+                Assert.assertTrue(customer.getOrders().isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void emptyCompany() throws IOException
+    {
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        CompanySnapshot.write(new Company("Empty"), path);
+
+        try (CompanySnapshot snapshot = CompanySnapshot.open(path))
+        {
+            Assert.assertEquals("Empty", snapshot.getName());
+            Assert.assertEquals(0, snapshot.getCustomerCount());
+            Assert.assertNull(snapshot.getCustomerNamed("Fred"));
+            Assert.assertTrue(snapshot.getOrders().isEmpty());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void notASnapshot() throws IOException
+    {
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        Files.write(path, new byte[]{1, 2, 3});
+        CompanySnapshot.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedSnapshot() throws IOException
+    {
+        Path path = this.folder.newFile("company.snapshot").toPath();
+        CompanySnapshot.write(this.company, path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        CompanySnapshot.open(path);
+    }
+}
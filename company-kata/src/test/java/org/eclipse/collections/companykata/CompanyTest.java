@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompanyTest
+{
+    @Test
+    public void getCustomerNamed()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Customer fred = new Customer("Fred", "London");
+        Customer mary = new Customer("Mary", "Liphook");
+        Customer otherFred = new Customer("Fred", "Liphook");
+        company.addCustomer(fred);
+        company.addCustomer(mary);
+        company.addCustomer(otherFred);
+
+        Assert.assertSame(fred, company.getCustomerNamed("Fred"));
+        Assert.assertSame(mary, company.getCustomerNamed("Mary"));
+        Assert.assertNull(company.getCustomerNamed("Bill"));
+        Assert.assertEquals(Lists.mutable.with(fred, mary, otherFred), company.getCustomers());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getCustomersIsReadOnly()
+    {
+        new Company("Bloggs Shed Supplies").getCustomers().add(new Customer("Fred", "London"));
+    }
+
+    @Test
+    public void customersByCity()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Customer fred = new Customer("Fred", "London");
+        Customer mary = new Customer("Mary", "Liphook");
+        Customer bill = new Customer("Bill", new String("London"));
+        company.addCustomer(fred);
+        company.addCustomer(mary);
+        company.addCustomer(bill);
+
+        Assert.assertEquals(Lists.mutable.with(fred, bill), company.customersInCity("London"));
+        Assert.assertEquals(Lists.mutable.with(mary), company.customersInCity("Liphook"));
+        Assert.assertTrue(company.customersInCity("Paris").isEmpty());
+        Assert.assertEquals(Bags.mutable.with("London", "London", "Liphook"), company.countByCity());
+        Assert.assertSame(fred.getCity(), bill.getCity());
+    }
+
+    @Test
+    public void suppliers()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Supplier shedtastic = new Supplier("Shedtastic", new String[]{"shed", "big shed", "huge shed"});
+        Supplier crocks = new Supplier("Splendid Crocks", new String[]{"cup", "saucer", "bowl"});
+        Supplier gnomes = new Supplier("Gnomes 'R' Us", new String[]{"gnome"});
+        Assert.assertArrayEquals(new Supplier[0], company.getSuppliers());
+
+        company.addSupplier(shedtastic);
+        Supplier[] suppliers = company.getSuppliers();
+        Assert.assertArrayEquals(new Supplier[]{shedtastic}, suppliers);
+        Assert.assertSame(suppliers, company.getSuppliers());
+
+        company.addSuppliers(Lists.mutable.with(crocks, gnomes));
+        Assert.assertArrayEquals(new Supplier[]{shedtastic, crocks, gnomes}, company.getSuppliers());
+        Assert.assertNotSame(suppliers, company.getSuppliers());
+    }
+
+    @Test
+    public void addSuppliersIteratesOnce()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Supplier crocks = new Supplier("Splendid Crocks", new String[]{"cup", "saucer", "bowl"});
+        Supplier gnomes = new Supplier("Gnomes 'R' Us", new String[]{"gnome"});
+        Iterator<Supplier> iterator = Lists.mutable.with(crocks, gnomes).iterator();
+
+        company.addSuppliers(() -> iterator);
+        Assert.assertArrayEquals(new Supplier[]{crocks, gnomes}, company.getSuppliers());
+        Assert.assertEquals(Lists.immutable.with(gnomes), company.getSuppliersOf("gnome"));
+    }
+
+    @Test
+    public void suppliersByItemName()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Supplier hamlet = new Supplier("Furniture Hamlet", new String[]{"table", "sofa", "chair"});
+        Supplier sfd = new Supplier("SFD", new String[]{"sofa", "chair", "sofa"});
+        Supplier doxins = new Supplier("Doxins", new String[]{"kettle", "plasma screen", "sandwich toaster"});
+        company.addSupplier(hamlet);
+        company.addSuppliers(Lists.mutable.with(sfd, doxins));
+
+        Assert.assertEquals(Lists.immutable.with(doxins), company.getSuppliersOf("sandwich toaster"));
+        Assert.assertEquals(Lists.immutable.with(hamlet, sfd), company.getSuppliersOf("sofa"));
+        Assert.assertTrue(company.getSuppliersOf("gnome").isEmpty());
+
+        Assert.assertEquals(
+                Sets.mutable.with(hamlet, doxins),
+                company.getSuppliersOfAny(Lists.mutable.with("table", "kettle", "gnome")));
+        Assert.assertEquals(
+                Sets.mutable.with(hamlet, sfd),
+                company.getSuppliersOfAll(Lists.mutable.with("sofa", "chair")));
+        Assert.assertEquals(
+                Sets.mutable.with(hamlet),
+                company.getSuppliersOfAll(Lists.mutable.with("sofa", "table")));
+        Assert.assertTrue(company.getSuppliersOfAll(Lists.mutable.with("sofa", "kettle")).isEmpty());
+        Assert.assertTrue(company.getSuppliersOfAll(Lists.mutable.empty()).isEmpty());
+    }
+
+    @Test
+    public void suppliersOfAnItem()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        Company concurrentCompany = Company.newConcurrentCompany("Splendid Crocks");
+        MutableList<Supplier> suppliers = Lists.mutable.empty();
+        for (int i = 0; i < 1_000; i++)
+        {
+            Supplier supplier = new Supplier("Supplier " + i, new String[]{"cup"});
+            suppliers.add(supplier);
+            company.addSupplier(supplier);
+            concurrentCompany.addSupplier(supplier);
+        }
+        ListIterable<Supplier> view = company.getSuppliersOf("cup");
+        ListIterable<Supplier> snapshot = concurrentCompany.getSuppliersOf("cup");
+        Assert.assertEquals(suppliers, view);
+        Assert.assertEquals(suppliers, snapshot);
+
+        Supplier lastSupplier = new Supplier("Last Supplier", new String[]{"cup"});
+        company.addSupplier(lastSupplier);
+        concurrentCompany.addSupplier(lastSupplier);
+        Assert.assertEquals(lastSupplier, view.getLast());
+        Assert.assertEquals(suppliers.getLast(), snapshot.getLast());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void suppliersOfAnItemAreReadOnly()
+    {
+        Company company = new Company("Bloggs Shed Supplies");
+        company.addSupplier(new Supplier("Splendid Crocks", new String[]{"cup"}));
+        ((MutableList<Supplier>) company.getSuppliersOf("cup")).clear();
+    }
+
+    @Test
+    public void independentOrderNumbers()
+    {
+        Company bloggs = new Company("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        Company crocks = Company.newConcurrentCompany("Splendid Crocks", new BlockOrderNumberAllocator());
+        Order bloggsOrder = bloggs.newOrder();
+        Order crocksOrder = crocks.newOrder();
+        Assert.assertEquals(1, bloggsOrder.getOrderNumber());
+        Assert.assertEquals(1, crocksOrder.getOrderNumber());
+        Assert.assertEquals(2, bloggs.newOrder().getOrderNumber());
+
+        Customer fred = new Customer("Fred", "London");
+        Customer mary = new Customer("Mary", "Liphook");
+        bloggs.addCustomer(fred);
+        crocks.addCustomer(mary);
+        crocksOrder.deliver();
+        fred.addOrder(bloggsOrder);
+        mary.addOrder(crocksOrder);
+
+        Assert.assertFalse(bloggsOrder.isDelivered());
+        Assert.assertTrue(crocksOrder.isDelivered());
+        Assert.assertEquals(IntArrayList.newListWith(1), bloggs.getUndeliveredOrderNumbers());
+        Assert.assertEquals(1, crocks.getDeliveredOrderCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectOrderNumberedElsewhere()
+    {
+        Company bloggs = new Company("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        Customer fred = new Customer("Fred", "London");
+        bloggs.addCustomer(fred);
+        fred.addOrder(new Order());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectCustomerWithOrderNumberedElsewhere()
+    {
+        Company bloggs = new Company("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        Customer mary = new Customer("Mary", "Liphook");
+        mary.addOrder(new Company("Splendid Crocks").newOrder());
+        bloggs.addCustomer(mary);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentCompanyTest
+{
+    private static final int THREADS = 16;
+    private static final String[] CITIES = {"London", "Liphook", "Leeds", "York"};
+
+    @Test
+    public void concurrentAddCustomer() throws Exception
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies");
+        int customersPerThread = 2_000;
+        ConcurrentCompanyTest.runConcurrently(thread ->
+        {
+            for (int i = 0; i < customersPerThread; i++)
+            {
+                company.addCustomer(new Customer(thread + "-" + i, CITIES[i % CITIES.length]));
+            }
+        });
+
+        Assert.assertEquals(THREADS * customersPerThread, company.getCustomers().size());
+        Assert.assertEquals(THREADS * customersPerThread / CITIES.length, company.customersInCity("York").size());
+        Assert.assertEquals(THREADS * customersPerThread / CITIES.length, company.countByCity().occurrencesOf("Leeds"));
+        for (int thread = 0; thread < THREADS; thread++)
+        {
+            Assert.assertEquals(thread + "-0", company.getCustomerNamed(thread + "-0").getName());
+        }
+    }
+
+    @Test
+    public void concurrentAddOrderAndLineItemsLoseNoUpdates() throws Exception
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies");
+        MutableList<Customer> customers = Interval.oneTo(8)
+                .collect(i -> new Customer("Customer " + i, CITIES[i % CITIES.length]))
+                .toList();
+        customers.each(company::addCustomer);
+        customers.each(customer -> customer.addOrder(new Order()));
+        DoubleAdder notifiedValue = new DoubleAdder();
+        LongAdder notifiedOrders = new LongAdder();
+        company.subscribe(new CompanyListener()
+        {
+            @Override
+            public void orderAdded(Customer customer, Order order)
+            {
+                notifiedOrders.increment();
+            }
+
+            @Override
+            public void lineItemsAdded(Customer customer, Order order, LineItem lineItem, int occurrences)
+            {
+                notifiedValue.add(lineItem.getValue() * occurrences);
+            }
+        });
+
+        int ordersPerThread = 500;
+        ConcurrentCompanyTest.runConcurrently(thread ->
+        {
+            for (int i = 0; i < ordersPerThread; i++)
+            {
+                Customer customer = customers.get((thread + i) % customers.size());
+                Order order = new Order();
+                customer.addOrder(order);
+                // Every thread adds line items to an order shared with the other threads
+                Order shared = customers.get(i % customers.size()).getOrders().getFirst();
+                order.addLineItems(LineItem.of("cup", 1.5), 2);
+                shared.addLineItem(LineItem.of("shed", 0.25));
+            }
+        });
+
+        int orders = THREADS * ordersPerThread;
+        double expectedValue = orders * (2 * 1.5 + 0.25);
+        Assert.assertEquals(orders + customers.size(), company.getOrders().size());
+        Assert.assertEquals(orders, notifiedOrders.intValue());
+        Assert.assertEquals(expectedValue, customers.sumOfDouble(Customer::getTotalOrderValue), 0.0);
+        Assert.assertEquals(expectedValue, company.getOrders().sumOfDouble(Order::getValue), 0.0);
+        Assert.assertEquals(expectedValue, company.asLazyLineItems().sumOfDouble(LineItem::getValue), 0.0);
+        Assert.assertEquals(expectedValue, notifiedValue.sum(), 0.0);
+        for (Customer customer : customers)
+        {
+            Assert.assertEquals(
+                    customer.getOrders().sumOfDouble(Order::getValue),
+                    customer.getTotalOrderValue(),
+                    0.0);
+        }
+    }
+
+    @Test
+    public void readersSeeConsistentSnapshots() throws Exception
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies");
+        Customer fred = new Customer("Fred", "London");
+        company.addCustomer(fred);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            Future<?> writer = executorService.submit(() ->
+            {
+                for (int i = 0; i < 20_000; i++)
+                {
+                    Order order = new Order();
+                    order.addLineItems(LineItem.of("cup", 1.5), 2);
+                    fred.addOrder(order);
+                    if (i % 100 == 0)
+                    {
+                        company.addCustomer(new Customer("Customer " + i, "Leeds"));
+                    }
+                }
+                writing.set(false);
+            });
+            Future<?> reader = executorService.submit(() ->
+            {
+                while (writing.get())
+                {
+                    MutableList<Order> orders = fred.getOrders();
+                    Assert.assertEquals(orders.size() * 3.0, orders.sumOfDouble(Order::getValue), 0.0);
+                    Assert.assertTrue(company.asLazyLineItems().size() >= orders.size() * 2);
+                    company.getCustomers().each(customer -> Assert.assertNotNull(customer.getName()));
+                }
+            });
+            writer.get();
+            reader.get();
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(20_000, fred.getOrders().size());
+        Assert.assertEquals(60_000.0, fred.getTotalOrderValue(), 0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotsAreReadOnly()
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies");
+        company.getCustomers().add(new Customer("Fred", "London"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void orderBelongsToOneCustomer()
+    {
+        Order order = new Order();
+        new Customer("Fred", "London").addOrder(order);
+        new Customer("Mary", "Liphook").addOrder(order);
+    }
+
+    private static void runConcurrently(ThreadBody body) throws Exception
+    {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            MutableList<Future<?>> futures = Lists.mutable.empty();
+            for (int thread = 0; thread < THREADS; thread++)
+            {
+                int threadNumber = thread;
+                futures.add(executorService.submit((Callable<Void>) () ->
+                {
+                    start.await();
+                    body.run(threadNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    private interface ThreadBody
+    {
+        void run(int thread);
+    }
+}
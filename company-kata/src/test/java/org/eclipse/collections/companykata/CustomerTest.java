@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CustomerTest
+{
+    @Test
+    public void totalOrderValueIncludesExistingLineItems()
+    {
+        Order order = new Order();
+        order.addLineItem(new LineItem("shed", 50.0));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+
+        Customer customer = new Customer("Fred", "London");
+        Assert.assertEquals(0.0, customer.getTotalOrderValue(), 0.0);
+        customer.addOrder(order);
+        Assert.assertEquals(54.5, customer.getTotalOrderValue(), 0.0);
+    }
+
+    @Test
+    public void totalOrderValueTracksLineItemsAddedLater()
+    {
+        Customer customer = new Customer("Bill", "London");
+        Order order1 = new Order();
+        Order order2 = new Order();
+        customer.addOrder(order1);
+        customer.addOrder(order2);
+
+        order1.addLineItem(new LineItem("shed", 50.0));
+        order1.addLineItems(new LineItem("gnome", 7.5), 43);
+        order2.addLineItems(new LineItem("bowl", 1.25), 2);
+
+        Assert.assertEquals(372.5, order1.getValue(), 0.0);
+        Assert.assertEquals(2.5, order2.getValue(), 0.0);
+        Assert.assertEquals(375.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertEquals(
+                customer.getOrders().sumOfDouble(Order::getValue),
+                customer.getTotalOrderValue(),
+                0.0);
+    }
+
+    @Test
+    public void totalOrderValueAfterDeliver()
+    {
+        Customer customer = new Customer("Mary", "Liphook");
+        Order order = new Order();
+        order.addLineItems(new LineItem("cup", 1.5), 4);
+        customer.addOrder(order);
+
+        order.deliver();
+        Assert.assertTrue(order.isDelivered());
+        Assert.assertEquals(6.0, order.getValue(), 0.0);
+        Assert.assertEquals(6.0, customer.getTotalOrderValue(), 0.0);
+
+        order.addLineItems(new LineItem("saucer", 1.5), 4);
+        Assert.assertEquals(12.0, order.getValue(), 0.0);
+        Assert.assertEquals(12.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertEquals(12.0, order.getLineItems().sumOfDouble(LineItem::getValue), 0.0);
+    }
+
+    @Test
+    public void writesThroughGetOrdersKeepTheTotal()
+    {
+        Company company = new Company("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        OrderValueAggregates aggregates = new OrderValueAggregates();
+        company.subscribe(aggregates);
+        Customer customer = new Customer("Fred", "London");
+        company.addCustomer(customer);
+        Order shed = company.newOrder();
+        shed.addLineItem(new LineItem("shed", 50.0));
+        Order cups = company.newOrder();
+        cups.addLineItems(new LineItem("cup", 1.5), 3);
+        Order gnome = company.newOrder();
+        gnome.addLineItem(new LineItem("gnome", 7.5));
+
+        MutableList<Order> orders = customer.getOrders();
+        orders.add(shed);
+        orders.addAll(Lists.mutable.with(cups, gnome));
+        Assert.assertEquals(Lists.mutable.with(shed, cups, gnome), customer.getOrders());
+        Assert.assertEquals(62.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertEquals(3, company.getUndeliveredOrderCount());
+
+        Assert.assertTrue(orders.remove(cups));
+        orders.removeIf(order -> order == gnome);
+        Assert.assertEquals(Lists.mutable.with(shed), customer.getOrders());
+        Assert.assertEquals(50.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertEquals(50.0, aggregates.getTotalOrderValueOfCity("London"), 0.0);
+        Assert.assertEquals(0.0, aggregates.getTotalOrderValueOfItem("cup"), 0.0);
+        Assert.assertEquals(1, company.getUndeliveredOrderCount());
+
+        Assert.assertSame(shed, orders.set(0, cups));
+        Assert.assertEquals(4.5, customer.getTotalOrderValue(), 0.0);
+        cups.addLineItem(new LineItem("cup", 1.5));
+        shed.addLineItem(new LineItem("shed", 50.0));
+        Assert.assertEquals(6.0, customer.getTotalOrderValue(), 0.0);
+
+        orders.clear();
+        Assert.assertTrue(customer.getOrders().isEmpty());
+        Assert.assertEquals(0.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertEquals(0.0, aggregates.getTotalOrderValueOfCity("London"), 0.0);
+        Assert.assertEquals(0, company.getUndeliveredOrderCount());
+
+        new Customer("Mary", "Liphook").addOrder(shed);
+    }
+}
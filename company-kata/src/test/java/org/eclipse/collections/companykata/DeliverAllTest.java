@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeliverAllTest extends CompanyDomainForKata
+{
+    @Test
+    public void deliverOrdersToLondon()
+    {
+        DeliveryReport report = this.company.deliverAll(customer -> "London".equals(customer.getCity()), order -> true);
+
+        Assert.assertEquals(new DeliveryReport(2, 4, 0), report);
+        Assert.assertTrue(this.company.getCustomerNamed("Fred").getOrders().allSatisfy(Order::isDelivered));
+        Assert.assertTrue(this.company.getCustomerNamed("Mary").getOrders().noneSatisfy(Order::isDelivered));
+        Assert.assertTrue(this.company.getCustomerNamed("Bill").getOrders().allSatisfy(Order::isDelivered));
+
+        Assert.assertEquals(4, this.company.getDeliveredOrderCount());
+        Assert.assertEquals(1, this.company.getUndeliveredOrderCount());
+
+        Assert.assertEquals(
+                new DeliveryReport(3, 1, 4),
+                this.company.deliverAll(Predicates.alwaysTrue(), Predicates.alwaysTrue()));
+        Assert.assertEquals(0, this.company.getUndeliveredOrderCount());
+    }
+
+    @Test
+    public void deliverSelectedOrders()
+    {
+        DeliveryReport report = this.company.deliverAll(Predicates.alwaysTrue(), order -> order.getValue() > 100.0);
+
+        Assert.assertEquals(new DeliveryReport(3, 2, 0), report);
+        Assert.assertEquals(3, this.company.getOrders().count(order -> !order.isDelivered()));
+        Assert.assertEquals("customers: 3 delivered: 2 already delivered: 0", report.toString());
+    }
+
+    @Test
+    public void deliverAllInParallel() throws Exception
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies");
+        for (int i = 0; i < 10_000; i++)
+        {
+            Customer customer = new Customer("Customer " + i, i % 2 == 0 ? "London" : "Liphook");
+            for (int j = 0; j < 1 + i % 3; j++)
+            {
+                Order order = new Order();
+                order.addLineItems(LineItem.of("cup", 1.5), 1 + j);
+                customer.addOrder(order);
+            }
+            company.addCustomer(customer);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            DeliveryReport report = company.asParallel(executorService, 100)
+                    .deliverAll(customer -> "London".equals(customer.getCity()), order -> order.getValue() < 3.0);
+            Assert.assertEquals(new DeliveryReport(5_000, 5_000, 0), report);
+
+            Assert.assertEquals(
+                    new DeliveryReport(10_000, 14_999, 5_000),
+                    company.deliverAll(Predicates.alwaysTrue(), Predicates.alwaysTrue()));
+            Assert.assertTrue(executorService.submit(() -> company.getOrders().allSatisfy(Order::isDelivered)).get());
+            Assert.assertEquals(19_999, company.getDeliveredOrderCount());
+            Assert.assertTrue(company.getUndeliveredOrderNumbers().isEmpty());
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void deliverAllOnAnExecutor()
+    {
+        Company company = Company.newConcurrentCompany("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        for (int i = 0; i < 20_000; i++)
+        {
+            Customer customer = new Customer("Customer " + i, "London");
+            customer.addOrder(company.newOrder());
+            company.addCustomer(customer);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        LongAdder tasks = new LongAdder();
+        try
+        {
+            DeliveryReport report = company.deliverAll(Predicates.alwaysTrue(), Predicates.alwaysTrue(), task ->
+            {
+                tasks.increment();
+                executorService.execute(task);
+            });
+            Assert.assertEquals(new DeliveryReport(20_000, 20_000, 0), report);
+            Assert.assertTrue(tasks.sum() > 1L);
+            Assert.assertEquals(20_000, company.getDeliveredOrderCount());
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LineItemNamesTest
+{
+    @Test
+    public void idOfAndNameOf()
+    {
+        int shed = LineItemNames.idOf("shed");
+        Assert.assertEquals(shed, LineItemNames.idOf(new String("shed")));
+        Assert.assertNotEquals(shed, LineItemNames.idOf("gnome"));
+        Assert.assertEquals("shed", LineItemNames.nameOf(shed));
+        Assert.assertEquals(shed, LineItemNames.lookUpIdOf("shed"));
+        Assert.assertEquals(LineItemNames.UNKNOWN_ID, LineItemNames.lookUpIdOf("never used"));
+    }
+
+    @Test
+    public void nullName()
+    {
+        Assert.assertEquals(LineItemNames.NULL_ID, LineItemNames.idOf(null));
+        Assert.assertEquals(LineItemNames.NULL_ID, LineItemNames.lookUpIdOf(null));
+        Assert.assertNull(LineItemNames.nameOf(LineItemNames.NULL_ID));
+    }
+
+    @Test
+    public void threadsAgreeOnIds() throws Exception
+    {
+        int threads = 8;
+        int names = 5_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<MutableIntList>> futures = Lists.mutable.empty();
+            for (int i = 0; i < threads; i++)
+            {
+                futures.add(executorService.submit(() ->
+                {
+                    MutableIntList ids = new IntArrayList(names);
+                    for (int j = 0; j < names; j++)
+                    {
+                        int id = LineItemNames.idOf("concurrent item " + j);
+                        Assert.assertEquals("concurrent item " + j, LineItemNames.nameOf(id));
+                        ids.add(id);
+                    }
+                    return ids;
+                }));
+            }
+            MutableIntList first = futures.get(0).get();
+            Assert.assertEquals(names, first.distinct().size());
+            for (Future<MutableIntList> future : futures)
+            {
+                Assert.assertEquals(first, future.get());
+            }
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LineItemTest
+{
+    @Test
+    public void equalsAndHashCode()
+    {
+        LineItem cup = new LineItem("cup", 1.5);
+        Assert.assertEquals(cup, new LineItem("cup", 1.5));
+        Assert.assertEquals(cup.hashCode(), new LineItem("cup", 1.5).hashCode());
+        Assert.assertNotEquals(cup, new LineItem("cup", 1.0));
+        Assert.assertNotEquals(cup, new LineItem("saucer", 1.5));
+    }
+
+    @Test
+    public void of()
+    {
+        LineItem cup = LineItem.of("cup", 1.5);
+        Assert.assertEquals(new LineItem("cup", 1.5), cup);
+        Assert.assertEquals(cup, LineItem.of(new String("cup"), 1.5));
+        Assert.assertNotEquals(cup, LineItem.of("cup", 1.0));
+    }
+
+    @Test
+    public void equalLineItemsShareOneBagEntry()
+    {
+        Order order = new Order();
+        order.addLineItem(new LineItem("cup", 1.5));
+        order.addLineItem(new LineItem("cup", 1.5));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+        order.addLineItem(new LineItem("saucer", 1.0));
+
+        MutableBag<LineItem> lineItems = order.getLineItems();
+        Assert.assertEquals(6, lineItems.size());
+        Assert.assertEquals(2, lineItems.sizeDistinct());
+        Assert.assertEquals(5, lineItems.occurrencesOf(LineItem.of("cup", 1.5)));
+    }
+
+    @Test
+    public void equalLineItemsShareOneRow()
+    {
+        Order order = new Order();
+        order.addLineItem(LineItem.of("cup", 1.5));
+        order.addLineItem(LineItem.of("saucer", 1.0));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+        order.addLineItem(LineItem.of("cup", 2.0));
+
+        MutableList<ObjectIntPair<LineItem>> rows = Lists.mutable.empty();
+        order.forEachLineItemWithOccurrences((lineItem, occurrences) -> rows.add(PrimitiveTuples.pair(lineItem, occurrences)));
+        MutableList<ObjectIntPair<LineItem>> expected = Lists.mutable.empty();
+        expected.add(PrimitiveTuples.pair(LineItem.of("cup", 1.5), 4));
+        expected.add(PrimitiveTuples.pair(LineItem.of("saucer", 1.0), 1));
+        expected.add(PrimitiveTuples.pair(LineItem.of("cup", 2.0), 1));
+        Assert.assertEquals(expected, rows);
+        Assert.assertEquals(9.0, order.getValue(), 0.0);
+    }
+
+    @Test
+    public void ofAlwaysReturnsAnEqualLineItem()
+    {
+        for (int i = 0; i < 100_000; i++)
+        {
+            Assert.assertEquals(new LineItem("item " + i, i * 0.1), LineItem.of("item " + i, i * 0.1));
+        }
+    }
+
+    @Test
+    public void ofReusesTheInstanceInItsSlot()
+    {
+        // Nothing else uses the cache between these calls on this thread, so the second call finds the first's item
+        LineItem gnome = LineItem.of("test gnome", 7.25);
+        Assert.assertSame(gnome, LineItem.of(new String("test gnome"), 7.25));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderDeliveriesTest
+{
+    @Test
+    public void registerAndDeliver()
+    {
+        OrderDeliveries deliveries = new OrderDeliveries(new SequentialOrderNumberAllocator());
+        OrderDeliveries.Bitmap delivered = deliveries.getDelivered();
+        Assert.assertTrue(deliveries.register(1));
+        Assert.assertTrue(deliveries.register(2));
+        Assert.assertTrue(deliveries.register(70_000));
+        Assert.assertTrue(delivered.set(2));
+
+        Assert.assertFalse(delivered.get(1));
+        Assert.assertTrue(delivered.get(2));
+        Assert.assertFalse(delivered.get(5_000_000));
+        Assert.assertEquals(1, deliveries.deliveredCount());
+        Assert.assertEquals(2, deliveries.undeliveredCount());
+
+        Assert.assertTrue(delivered.set(70_000));
+        Assert.assertFalse(delivered.set(70_000));
+        Assert.assertEquals(2, deliveries.deliveredCount());
+        Assert.assertEquals(IntArrayList.newListWith(1), OrderDeliveriesTest.undelivered(deliveries));
+
+        // Delivered orders that are not registered are not counted
+        Assert.assertTrue(delivered.set(3));
+        Assert.assertEquals(2, deliveries.deliveredCount());
+
+        Assert.assertFalse(deliveries.register(1));
+        deliveries.unregister(2);
+        Assert.assertEquals(1, deliveries.deliveredCount());
+        Assert.assertTrue(deliveries.register(2));
+        Assert.assertEquals(2, deliveries.deliveredCount());
+        Assert.assertEquals(IntArrayList.newListWith(1), OrderDeliveriesTest.undelivered(deliveries));
+    }
+
+    @Test
+    public void deliveredOrdersAreSharedPerAllocator()
+    {
+        OrderNumberAllocator allocator = new SequentialOrderNumberAllocator();
+        OrderDeliveries first = new OrderDeliveries(allocator);
+        OrderDeliveries second = new OrderDeliveries(allocator);
+        OrderDeliveries other = new OrderDeliveries(new SequentialOrderNumberAllocator());
+        Assert.assertSame(first.getDelivered(), second.getDelivered());
+        Assert.assertNotSame(first.getDelivered(), other.getDelivered());
+
+        first.getDelivered().set(7);
+        Assert.assertTrue(second.getDelivered().get(7));
+        Assert.assertFalse(other.getDelivered().get(7));
+
+        allocator.reset();
+        Assert.assertFalse(first.getDelivered().get(7));
+    }
+
+    @Test
+    public void matchesBitSet()
+    {
+        Random random = new Random(42L);
+        OrderDeliveries deliveries = new OrderDeliveries(new SequentialOrderNumberAllocator());
+        BitSet orders = new BitSet();
+        BitSet delivered = new BitSet();
+        for (int i = 0; i < 50_000; i++)
+        {
+            int orderNumber = random.nextInt(300_000);
+            if (random.nextBoolean())
+            {
+                Assert.assertEquals(!orders.get(orderNumber), deliveries.register(orderNumber));
+                orders.set(orderNumber);
+            }
+            else
+            {
+                Assert.assertEquals(!delivered.get(orderNumber), deliveries.getDelivered().set(orderNumber));
+                delivered.set(orderNumber);
+            }
+        }
+
+        BitSet deliveredOrders = (BitSet) orders.clone();
+        deliveredOrders.and(delivered);
+        Assert.assertEquals(deliveredOrders.cardinality(), deliveries.deliveredCount());
+        BitSet undelivered = (BitSet) orders.clone();
+        undelivered.andNot(delivered);
+        Assert.assertEquals(undelivered.cardinality(), deliveries.undeliveredCount());
+        MutableIntList expected = new IntArrayList();
+        undelivered.stream().forEach(expected::add);
+        Assert.assertEquals(expected, OrderDeliveriesTest.undelivered(deliveries));
+    }
+
+    @Test
+    public void companyTracksDeliveries()
+    {
+        Order.resetNextOrderNumber();
+        Order detached = new Order();
+        detached.deliver();
+        Assert.assertTrue(detached.isDelivered());
+
+        Customer fred = new Customer("Fred", "London");
+        fred.addOrder(detached);
+        fred.addOrder(new Order());
+        Company company = new Company("Bloggs Shed Supplies");
+        company.addCustomer(fred);
+        Order later = new Order();
+        fred.addOrder(later);
+
+        Assert.assertTrue(detached.isDelivered());
+        Assert.assertEquals(1, company.getDeliveredOrderCount());
+        Assert.assertEquals(2, company.getUndeliveredOrderCount());
+        Assert.assertEquals(IntArrayList.newListWith(2, 3), company.getUndeliveredOrderNumbers());
+
+        later.deliver();
+        Assert.assertTrue(later.isDelivered());
+        Assert.assertEquals(IntArrayList.newListWith(2), company.getUndeliveredOrderNumbers());
+        Assert.assertEquals(2, company.getDeliveredOrderCount());
+    }
+
+    @Test
+    public void resetForgetsDeliveries()
+    {
+        Order.resetNextOrderNumber();
+        Order first = new Order();
+        first.deliver();
+        Assert.assertTrue(first.isDelivered());
+
+        Order.resetNextOrderNumber();
+        Order second = new Order();
+        Assert.assertEquals(first.getOrderNumber(), second.getOrderNumber());
+        Assert.assertFalse(second.isDelivered());
+        second.deliver();
+        Assert.assertTrue(second.isDelivered());
+    }
+
+    @Test
+    public void companyOrdersUseTheCompanyAllocatorsDeliveries()
+    {
+        Order.resetNextOrderNumber();
+        Company bloggs = new Company("Bloggs Shed Supplies", new SequentialOrderNumberAllocator());
+        Order bloggsOrder = bloggs.newOrder();
+        Order sharedOrder = new Order();
+        Assert.assertEquals(bloggsOrder.getOrderNumber(), sharedOrder.getOrderNumber());
+
+        bloggsOrder.deliver();
+        Assert.assertTrue(bloggsOrder.isDelivered());
+        Assert.assertFalse(sharedOrder.isDelivered());
+    }
+
+    @Test
+    public void companyRejectsDuplicateOrderNumbers()
+    {
+        Order.resetNextOrderNumber();
+        Order first = new Order();
+        Customer fred = new Customer("Fred", "London");
+        fred.addOrder(first);
+        Company company = new Company("Bloggs Shed Supplies");
+        company.addCustomer(fred);
+
+        Order.resetNextOrderNumber();
+        Order duplicate = new Order();
+        try
+        {
+            fred.addOrder(duplicate);
+            Assert.fail("Expected an IllegalArgumentException");
+        }
+        catch (IllegalArgumentException expected)
+        {
+            // The company can only track one order per number
+        }
+        Assert.assertEquals(Lists.mutable.with(first), fred.getOrders());
+        Assert.assertEquals(0, company.getDeliveredOrderCount());
+        Assert.assertEquals(1, company.getUndeliveredOrderCount());
+
+        // A customer whose orders clash with the company's is not added, and none of its orders are registered
+        Customer mary = new Customer("Mary", "Liphook");
+        Order unique = new Order();
+        mary.addOrder(new Order());
+        mary.addOrder(unique);
+        Order.resetNextOrderNumber();
+        mary.addOrder(new Order());
+        try
+        {
+            company.addCustomer(mary);
+            Assert.fail("Expected an IllegalArgumentException");
+        }
+        catch (IllegalArgumentException expected)
+        {
+            // Order number 1 belongs to Fred's order
+        }
+        Assert.assertEquals(Lists.mutable.with(fred), company.getCustomers());
+        Assert.assertEquals(IntArrayList.newListWith(1), company.getUndeliveredOrderNumbers());
+        first.deliver();
+        Assert.assertEquals(1, company.getDeliveredOrderCount());
+        Assert.assertEquals(0, company.getUndeliveredOrderCount());
+    }
+
+    private static MutableIntList undelivered(OrderDeliveries deliveries)
+    {
+        MutableIntList orderNumbers = new IntArrayList();
+        deliveries.forEachUndelivered(orderNumbers::add);
+        return orderNumbers;
+    }
+}
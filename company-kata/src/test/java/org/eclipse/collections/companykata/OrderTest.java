@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderTest
+{
+    @Test
+    public void getValue()
+    {
+        Order order = new Order();
+        Assert.assertEquals(0.0, order.getValue(), 0.0);
+
+        order.addLineItem(new LineItem("shed", 50.0));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+        order.addLineItems(new LineItem("saucer", 1.0), 0);
+        Assert.assertEquals(54.5, order.getValue(), 0.0);
+    }
+
+    @Test
+    public void getLineItems()
+    {
+        Order order = new Order();
+        order.addLineItem(new LineItem("shed", 50.0));
+        order.addLineItems(new LineItem("cup", 1.5), 3);
+
+        MutableBag<LineItem> lineItems = order.getLineItems();
+        Assert.assertEquals(4, lineItems.size());
+        Assert.assertEquals(
+                Bags.mutable.with("shed", "cup", "cup", "cup"),
+                lineItems.collect(LineItem::getName));
+        Assert.assertEquals(54.5, lineItems.sumOfDouble(LineItem::getValue), 0.0);
+        Assert.assertTrue(order.toString().endsWith(" items: 4"));
+    }
+
+    @Test
+    public void getLineItemsIsAView()
+    {
+        Customer customer = new Customer("Sally", "London");
+        Order order = new Order();
+        customer.addOrder(order);
+        MutableBag<LineItem> lineItems = order.getLineItems();
+        Assert.assertSame(lineItems, order.getLineItems());
+
+        lineItems.add(new LineItem("shed", 50.0));
+        lineItems.addOccurrences(new LineItem("cup", 1.5), 3);
+        order.addLineItem(new LineItem("cup", 1.5));
+        MutableBag<LineItem> expected = HashBag.newBagWith(new LineItem("shed", 50.0));
+        expected.addOccurrences(new LineItem("cup", 1.5), 4);
+        Assert.assertEquals(expected, lineItems);
+        Assert.assertEquals(lineItems, expected);
+        Assert.assertEquals(expected.hashCode(), lineItems.hashCode());
+        Assert.assertEquals(4, lineItems.occurrencesOf(new LineItem("cup", 1.5)));
+        Assert.assertEquals(56.0, order.getValue(), 0.0);
+        Assert.assertEquals(56.0, customer.getTotalOrderValue(), 0.0);
+
+        Assert.assertTrue(lineItems.removeOccurrences(new LineItem("cup", 1.5), 3));
+        Assert.assertFalse(lineItems.remove(new LineItem("cup", 2.5)));
+        Assert.assertEquals(2, lineItems.sizeDistinct());
+        Assert.assertEquals(51.5, order.getValue(), 0.0);
+        Assert.assertEquals(51.5, customer.getTotalOrderValue(), 0.0);
+
+        lineItems.removeIf(lineItem -> "shed".equals(lineItem.getName()));
+        Assert.assertEquals(Bags.mutable.with(new LineItem("cup", 1.5)), lineItems);
+        Iterator<LineItem> iterator = lineItems.iterator();
+        iterator.next();
+        iterator.remove();
+        Assert.assertTrue(lineItems.isEmpty());
+        Assert.assertEquals(0.0, order.getValue(), 0.0);
+        Assert.assertEquals(0.0, customer.getTotalOrderValue(), 0.0);
+        Assert.assertTrue(order.toString().endsWith(" items: 0"));
+    }
+
+    @Test
+    public void manyDistinctLineItems()
+    {
+        Order order = new Order();
+        for (int i = 0; i < 100; i++)
+        {
+            order.addLineItem(new LineItem("item " + (i % 40), i % 20));
+        }
+        MutableBag<LineItem> lineItems = order.getLineItems();
+        Assert.assertEquals(100, lineItems.size());
+        Assert.assertEquals(40, lineItems.sizeDistinct());
+        Assert.assertEquals(3, lineItems.occurrencesOf(new LineItem("item 0", 0.0)));
+        Assert.assertEquals(2, lineItems.occurrencesOf(new LineItem("item 39", 19.0)));
+
+        lineItems.setOccurrences(new LineItem("item 0", 0.0), 0);
+        Assert.assertEquals(39, lineItems.sizeDistinct());
+        Assert.assertEquals(2, lineItems.occurrencesOf(new LineItem("item 39", 19.0)));
+        order.addLineItem(new LineItem("item 39", 19.0));
+        Assert.assertEquals(39, lineItems.sizeDistinct());
+        Assert.assertEquals(3, lineItems.occurrencesOf(new LineItem("item 39", 19.0)));
+    }
+
+    @Test
+    public void nullNames()
+    {
+        Order order = new Order();
+        order.addLineItems(new LineItem(null, 2.0), 2);
+        Assert.assertEquals(2, order.getLineItems().occurrencesOf(new LineItem(null, 2.0)));
+        Assert.assertNull(order.getLineItems().getFirst().getName());
+        Assert.assertEquals(4.0, order.getValue(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addNegativeLineItems()
+    {
+        new Order().addLineItems(new LineItem("cup", 1.5), -1);
+    }
+}
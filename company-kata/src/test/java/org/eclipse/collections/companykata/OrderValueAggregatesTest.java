@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderValueAggregatesTest extends CompanyDomainForKata
+{
+    private static final String[] CITIES = {"London", "Liphook", "Leeds", "York"};
+    private static final String[] ITEMS = {"shed", "cup", "saucer", "chair", "table", "gnome"};
+
+    @Test
+    public void matchesExercise8Answers()
+    {
+        OrderValueAggregates aggregates = new OrderValueAggregates();
+        this.company.subscribe(aggregates);
+
+        Assert.assertEquals(446.25, aggregates.getTotalOrderValueOfCity("London"), 0.0);
+        Assert.assertEquals(857.0, aggregates.getTotalOrderValueOfCity("Liphook"), 0.0);
+        Assert.assertEquals(0.0, aggregates.getTotalOrderValueOfCity("York"), 0.0);
+        Assert.assertEquals(12, aggregates.getTotalOrderValuesByItem().size());
+        Assert.assertEquals(100.0, aggregates.getTotalOrderValueOfItem("shed"), 0.0);
+        Assert.assertEquals(10.5, aggregates.getTotalOrderValueOfItem("cup"), 0.0);
+
+        this.company.getCustomerNamed("Mary").getOrders().getFirst().addLineItems(LineItem.of("cup", 1.5), 2);
+        Assert.assertEquals(860.0, aggregates.getTotalOrderValueOfCity("Liphook"), 0.0);
+        Assert.assertEquals(13.5, aggregates.getTotalOrderValueOfItem("cup"), 0.0);
+        this.assertMatchesSumByDouble(aggregates);
+
+        this.company.getCustomerNamed("Mary").getOrders().getFirst().getLineItems().removeOccurrences(LineItem.of("cup", 1.5), 1);
+        Assert.assertEquals(858.5, aggregates.getTotalOrderValueOfCity("Liphook"), 0.0);
+        Assert.assertEquals(12.0, aggregates.getTotalOrderValueOfItem("cup"), 0.0);
+        this.assertMatchesSumByDouble(aggregates);
+    }
+
+    @Test
+    public void unsubscribe()
+    {
+        OrderValueAggregates aggregates = new OrderValueAggregates();
+        this.company.subscribe(aggregates);
+        this.company.unsubscribe(aggregates);
+
+        this.company.getCustomerNamed("Fred").getOrders().getFirst().addLineItem(LineItem.of("shed", 50.0));
+        Assert.assertEquals(100.0, aggregates.getTotalOrderValueOfItem("shed"), 0.0);
+    }
+
+    @Test
+    public void randomizedMutations()
+    {
+        Random random = new Random(20200101L);
+        OrderValueAggregates early = new OrderValueAggregates();
+        OrderValueAggregates late = new OrderValueAggregates();
+        this.company.subscribe(early);
+
+        MutableList<Customer> customers = Lists.mutable.withAll(this.company.getCustomers());
+        MutableList<Order> orders = this.company.getOrders();
+        for (int i = 0; i < 5_000; i++)
+        {
+            int operation = random.nextInt(10);
+            if (operation == 0)
+            {
+                Customer customer = new Customer("Customer " + i, CITIES[random.nextInt(CITIES.length)]);
+                if (random.nextBoolean())
+                {
+                    Order order = new Order();
+                    OrderValueAggregatesTest.addRandomLineItems(random, order);
+                    customer.addOrder(order);
+                    orders.add(order);
+                }
+                this.company.addCustomer(customer);
+                customers.add(customer);
+            }
+            else if (operation <= 2)
+            {
+                Order order = new Order();
+                if (random.nextBoolean())
+                {
+                    OrderValueAggregatesTest.addRandomLineItems(random, order);
+                }
+                customers.get(random.nextInt(customers.size())).addOrder(order);
+                orders.add(order);
+            }
+            else
+            {
+                OrderValueAggregatesTest.addRandomLineItems(random, orders.get(random.nextInt(orders.size())));
+            }
+
+            if (i == 2_500)
+            {
+                this.company.subscribe(late);
+            }
+            if (i % 500 == 0)
+            {
+                this.assertMatchesSumByDouble(early);
+            }
+        }
+        this.assertMatchesSumByDouble(early);
+        this.assertMatchesSumByDouble(late);
+    }
+
+    private static void addRandomLineItems(Random random, Order order)
+    {
+        LineItem lineItem = LineItem.of(ITEMS[random.nextInt(ITEMS.length)], random.nextDouble() * 100.0);
+        if (random.nextBoolean())
+        {
+            order.addLineItem(lineItem);
+        }
+        else
+        {
+            order.addLineItems(lineItem, random.nextInt(50));
+        }
+    }
+
+    @Test
+    public void concurrentCompany() throws Exception
+    {
+        Company concurrentCompany = Company.newConcurrentCompany("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        OrderValueAggregates aggregates = new OrderValueAggregates();
+        concurrentCompany.subscribe(aggregates);
+
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<?>> futures = Lists.mutable.empty();
+            for (int thread = 0; thread < threads; thread++)
+            {
+                int seed = thread;
+                futures.add(executorService.submit(() ->
+                {
+                    Random random = new Random(seed);
+                    Customer customer = new Customer("Customer " + seed, CITIES[seed % CITIES.length]);
+                    concurrentCompany.addCustomer(customer);
+                    for (int i = 0; i < 250; i++)
+                    {
+                        Order order = concurrentCompany.newOrder();
+                        customer.addOrder(order);
+                        for (int j = 0; j < 8; j++)
+                        {
+                            OrderValueAggregatesTest.addRandomLineItems(random, order);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+
+        Assert.assertEquals(CITIES.length, aggregates.getTotalOrderValuesByCity().size());
+        OrderValueAggregatesTest.assertMatchesSumByDouble(concurrentCompany, aggregates);
+    }
+
+    private void assertMatchesSumByDouble(OrderValueAggregates aggregates)
+    {
+        OrderValueAggregatesTest.assertMatchesSumByDouble(this.company, aggregates);
+    }
+
+    private static void assertMatchesSumByDouble(Company company, OrderValueAggregates aggregates)
+    {
+        OrderValueAggregatesTest.assertEqualTotals(
+                company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue),
+                aggregates.getTotalOrderValuesByCity());
+        OrderValueAggregatesTest.assertEqualTotals(
+                company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue),
+                aggregates.getTotalOrderValuesByItem());
+    }
+
+    private static void assertEqualTotals(ObjectDoubleMap<String> expected, ObjectDoubleMap<String> actual)
+    {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        // The totals are not equal to the last bit: each line item's occurrences are added as one value, and line items
+        // are added in the order they arrive rather than the order sumByDouble visits them
+        expected.forEachKeyValue((key, value) -> Assert.assertEquals(key, value, actual.get(key), Math.abs(value) * 1.0e-12));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that the parallel view gives the same answers as the serial Exercise 8 solutions.
+ */
+public class ParallelCompanyTest extends CompanyDomainForKata
+{
+    private static final String[] CITIES = {"London", "Liphook", "Leeds", "York"};
+    private static final String[] ITEMS = {"shed", "cup", "saucer", "chair", "table", "gnome"};
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private ParallelCompany parallelCompany()
+    {
+        return this.company.asParallel(this.executorService, 1);
+    }
+
+    @Test
+    public void getOrdersAndLineItems()
+    {
+        Assert.assertEquals(this.company.getOrders().toSet(), this.parallelCompany().getOrders().toSet());
+        Assert.assertEquals(
+                this.company.getOrders().flatCollect(Order::getLineItems).toBag(),
+                this.parallelCompany().getLineItems().toBag());
+    }
+
+    @Test
+    public void totalOrderValuesByCity()
+    {
+        ObjectDoubleMap<String> expected =
+                this.company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue);
+        ObjectDoubleMap<String> actual = this.parallelCompany().totalOrderValuesByCity();
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(446.25, actual.get("London"), 0.0);
+        Assert.assertEquals(857.0, actual.get("Liphook"), 0.0);
+    }
+
+    @Test
+    public void aggregateOrderValuesByCity()
+    {
+        MapIterable<String, Double> actual = this.parallelCompany().aggregateOrderValuesByCity();
+        Assert.assertEquals(2, actual.size());
+        Assert.assertEquals(446.25, actual.get("London"), 0.0);
+        Assert.assertEquals(857.0, actual.get("Liphook"), 0.0);
+    }
+
+    @Test
+    public void totalOrderValuesByItem()
+    {
+        ObjectDoubleMap<String> expected =
+                this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue);
+        ObjectDoubleMap<String> actual = this.parallelCompany().totalOrderValuesByItem();
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(12, actual.size());
+        Assert.assertEquals(100.0, actual.get("shed"), 0.0);
+        Assert.assertEquals(10.5, actual.get("cup"), 0.0);
+    }
+
+    @Test
+    public void customersByMostExpensiveItem()
+    {
+        ListMultimap<Double, Customer> multimap = this.parallelCompany().customersByMostExpensiveItem();
+        Assert.assertEquals(3, multimap.size());
+        Assert.assertEquals(2, multimap.keysView().size());
+        Assert.assertEquals(
+                this.company.getCustomers().groupBy(customer -> customer.getOrders().flatCollect(Order::getLineItems).collect(LineItem::getValue).max()),
+                multimap);
+        Assert.assertEquals(
+                Lists.mutable.with(this.company.getCustomerNamed("Fred"), this.company.getCustomerNamed("Bill")),
+                multimap.get(50.0));
+    }
+
+    @Test
+    public void largeCompanyMatchesSerialResults()
+    {
+        Random random = new Random(20200101L);
+        Company largeCompany = new Company("Bloggs Shed Supplies", new BlockOrderNumberAllocator());
+        for (int i = 0; i < 2_000; i++)
+        {
+            Customer customer = new Customer("Customer " + i, CITIES[random.nextInt(CITIES.length)]);
+            for (int j = 0; j < 1 + random.nextInt(3); j++)
+            {
+                Order order = largeCompany.newOrder();
+                for (int k = 0; k < 1 + random.nextInt(4); k++)
+                {
+                    order.addLineItems(
+                            LineItem.of(ITEMS[random.nextInt(ITEMS.length)], random.nextInt(4) * 10.0 + random.nextDouble()),
+                            1 + random.nextInt(3));
+                }
+                customer.addOrder(order);
+            }
+            largeCompany.addCustomer(customer);
+        }
+        ParallelCompany parallelCompany = largeCompany.asParallel(this.executorService, 64);
+
+        Assert.assertEquals(
+                largeCompany.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue),
+                parallelCompany.totalOrderValuesByCity());
+        Assert.assertEquals(
+                largeCompany.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue),
+                parallelCompany.totalOrderValuesByItem());
+        MutableMap<String, Double> expectedAggregates = Maps.mutable.empty();
+        largeCompany.getCustomers()
+                .sumByDouble(Customer::getCity, Customer::getTotalOrderValue)
+                .forEachKeyValue(expectedAggregates::put);
+        Assert.assertEquals(expectedAggregates, parallelCompany.aggregateOrderValuesByCity());
+        Assert.assertEquals(
+                largeCompany.getCustomers().groupBy(customer -> customer.getOrders().flatCollect(Order::getLineItems).collect(LineItem::getValue).max()),
+                parallelCompany.customersByMostExpensiveItem());
+    }
+
+    @Test
+    public void customersWithoutItemsHaveNoMostExpensiveItem()
+    {
+        Customer noOrders = new Customer("Sally", "London");
+        Customer emptyOrder = new Customer("Jim", "Leeds");
+        emptyOrder.addOrder(new Order());
+        this.company.addCustomer(noOrders);
+        this.company.addCustomer(emptyOrder);
+
+        ListMultimap<Double, Customer> multimap = this.parallelCompany().customersByMostExpensiveItem();
+        Assert.assertEquals(3, multimap.size());
+        Assert.assertFalse(multimap.containsValue(noOrders));
+        Assert.assertFalse(multimap.containsValue(emptyOrder));
+        Assert.assertEquals(0.0, this.parallelCompany().totalOrderValuesByCity().get("Leeds"), 0.0);
+    }
+
+    @Test
+    public void customerWithMaxTotalOrderValue()
+    {
+        Assert.assertSame(this.company.getCustomerNamed("Mary"), this.parallelCompany().customerWithMaxTotalOrderValue());
+    }
+}
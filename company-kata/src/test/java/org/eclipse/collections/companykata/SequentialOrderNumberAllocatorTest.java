@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.companykata;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SequentialOrderNumberAllocatorTest
+{
+    @Test
+    public void consecutiveNumbers()
+    {
+        OrderNumberAllocator allocator = new SequentialOrderNumberAllocator();
+        Assert.assertEquals(1, allocator.nextOrderNumber());
+        Assert.assertEquals(2, allocator.nextOrderNumber());
+        Assert.assertEquals(3, allocator.nextOrderNumber());
+
+        allocator.reset();
+        Assert.assertEquals(1, allocator.nextOrderNumber());
+    }
+
+    @Test
+    public void threadsShareOneSequenceWithoutGaps() throws Exception
+    {
+        int threads = 8;
+        int perThread = 10_000;
+        OrderNumberAllocator allocator = new SequentialOrderNumberAllocator();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try
+        {
+            MutableList<Future<MutableIntList>> futures = Lists.mutable.empty();
+            for (int i = 0; i < threads; i++)
+            {
+                futures.add(executorService.submit(() ->
+                {
+                    MutableIntList orderNumbers = new IntArrayList(perThread);
+                    for (int j = 0; j < perThread; j++)
+                    {
+                        orderNumbers.add(allocator.nextOrderNumber());
+                    }
+                    return orderNumbers;
+                }));
+            }
+            MutableIntList all = new IntArrayList(threads * perThread);
+            for (Future<MutableIntList> future : futures)
+            {
+                all.addAll(future.get());
+            }
+            Assert.assertEquals(IntInterval.oneTo(threads * perThread).toList(), all.sortThis());
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void defaultOrdersAreNumberedInCreationOrder()
+    {
+        Order.resetNextOrderNumber();
+        Assert.assertEquals(1, new Order().getOrderNumber());
+        Assert.assertEquals(2, new Order().getOrderNumber());
+        Assert.assertEquals(3, new Order().getOrderNumber());
+    }
+}
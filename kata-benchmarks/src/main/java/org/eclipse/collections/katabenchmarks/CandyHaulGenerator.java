@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.katasupport.EnumBag;
+
+/**
+ * Generates deterministic trick-or-treat hauls for any number of school groups from a seed. Candy popularity follows
+ * a Zipfian distribution, and each group ranks the candies in its own shuffled order, so groups agree on some
+ * favourites but not all. Candies are counted into an array before the bag is built, so a haul costs one bag
+ * regardless of how many candies it holds.
+ */
+public final class CandyHaulGenerator
+{
+    private static final Candy[] CANDIES = Candy.values();
+
+    private final long seed;
+    private final ZipfianDistribution candyPopularity = new ZipfianDistribution(CANDIES.length, 1.0);
+
+    public CandyHaulGenerator(long seed)
+    {
+        this.seed = seed;
+    }
+
+    public MutableList<Bag<Candy>> generate(int groupCount, int candiesPerGroup)
+    {
+        MutableList<Bag<Candy>> hauls = FastList.newList(groupCount);
+        this.forEachHaul(groupCount, candiesPerGroup, hauls::add);
+        return hauls;
+    }
+
+    /**
+     * Streams one haul of {@code candiesPerGroup} candies per school group to {@code procedure}.
+     */
+    public void forEachHaul(int groupCount, int candiesPerGroup, Procedure<? super Bag<Candy>> procedure)
+    {
+        SplittableRandom random = new SplittableRandom(this.seed);
+        int[] ranking = new int[CANDIES.length];
+        int[] counts = new int[CANDIES.length];
+        for (int i = 0; i < groupCount; i++)
+        {
+            CandyHaulGenerator.shuffle(ranking, random);
+            for (int j = 0; j < candiesPerGroup; j++)
+            {
+                counts[ranking[this.candyPopularity.sample(random)]]++;
+            }
+            EnumBag<Candy> haul = EnumBag.newBag(Candy.class);
+            for (int ordinal = 0; ordinal < counts.length; ordinal++)
+            {
+                haul.addOccurrences(CANDIES[ordinal], counts[ordinal]);
+                counts[ordinal] = 0;
+            }
+            procedure.value(haul);
+        }
+    }
+
+    private static void shuffle(int[] ranking, SplittableRandom random)
+    {
+        for (int i = 0; i < ranking.length; i++)
+        {
+            ranking[i] = i;
+        }
+        for (int i = ranking.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int swap = ranking[i];
+            ranking[i] = ranking[j];
+            ranking[j] = swap;
+        }
+    }
+}
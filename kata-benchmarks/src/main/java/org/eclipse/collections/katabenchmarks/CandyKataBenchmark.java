@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.candykata.Candy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The candy kata solution queries run against three school groups that each collected {@code size} candies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CandyKataBenchmark
+{
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private MutableList<Bag<Candy>> bagsOfCandy;
+
+    @Setup
+    public void setUp()
+    {
+        this.bagsOfCandy = new CandyHaulGenerator(42L).generate(3, this.size);
+    }
+
+    @Benchmark
+    public MutableSet<Candy> topCandy()
+    {
+        return this.bagsOfCandy.flatCollect(bag -> bag).toBag()
+                .topOccurrences(1)
+                .collect(ObjectIntPair::getOne)
+                .toSet();
+    }
+
+    @Benchmark
+    public MutableSet<Candy> commonInTop10()
+    {
+        return this.bagsOfCandy.collect(bag -> bag.topOccurrences(10)
+                .collect(ObjectIntPair::getOne)
+                .toSet())
+                .reduce(MutableSet::intersect)
+                .get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.companykata.BlockOrderNumberAllocator;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+
+/**
+ * Generates a deterministic company of any size from a seed. Item popularity and customer cities both follow a
+ * Zipfian distribution, so a few items and cities dominate as they would in a real order book.
+ * <p>
+ * Each item in the catalogue has one list price, so line items are shared {@link LineItem} instances and generating
+ * an order allocates nothing beyond the order itself. Prices are arbitrary doubles rather than exact binary fractions,
+ * so sums depend on the order of addition as they would with real prices.
+ * <p>
+ * Orders are numbered by the company they are generated for, which has its own allocator, so a generated company
+ * depends only on the seed and not on orders created elsewhere in the JVM.
+ */
+public final class CompanyGenerator
+{
+    private static final int ITEM_COUNT = 1_000;
+    private static final int CITY_COUNT = 50;
+    private static final int MAX_ORDERS_PER_CUSTOMER = 4;
+    private static final int MAX_LINES_PER_ORDER = 8;
+    private static final int MAX_OCCURRENCES_PER_LINE = 4;
+
+    private final long seed;
+    private final LineItem[] catalogue = new LineItem[ITEM_COUNT];
+    private final String[] cities = new String[CITY_COUNT];
+    private final ZipfianDistribution itemPopularity = new ZipfianDistribution(ITEM_COUNT, 1.0);
+    private final ZipfianDistribution cityPopularity = new ZipfianDistribution(CITY_COUNT, 0.8);
+
+    public CompanyGenerator(long seed)
+    {
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            this.catalogue[i] = LineItem.of("item " + i, 0.01 + random.nextDouble() * 500.0);
+        }
+        for (int i = 0; i < CITY_COUNT; i++)
+        {
+            this.cities[i] = "City " + i;
+        }
+    }
+
+    public Company generate(int customerCount)
+    {
+        Company company = CompanyGenerator.newCompany();
+        this.forEachCustomer(company, customerCount, company::addCustomer);
+        return company;
+    }
+
+    /**
+     * Returns an empty company with its own order numbers, to pass to
+     * {@link #forEachCustomer(Company, int, Procedure)}.
+     */
+    public static Company newCompany()
+    {
+        return new Company("Generated Company", new BlockOrderNumberAllocator());
+    }
+
+    /**
+     * Streams {@code customerCount} customers with their orders to {@code procedure} without holding on to them. The
+     * orders are created by {@link Company#newOrder()}, so the customers can only be added to {@code company}.
+     */
+    public void forEachCustomer(Company company, int customerCount, Procedure<? super Customer> procedure)
+    {
+        SplittableRandom random = new SplittableRandom(this.seed);
+        for (int i = 0; i < customerCount; i++)
+        {
+            Customer customer = new Customer("Customer " + i, this.cities[this.cityPopularity.sample(random)]);
+            int orderCount = 1 + random.nextInt(MAX_ORDERS_PER_CUSTOMER);
+            for (int j = 0; j < orderCount; j++)
+            {
+                Order order = company.newOrder();
+                int lineCount = 1 + random.nextInt(MAX_LINES_PER_ORDER);
+                for (int k = 0; k < lineCount; k++)
+                {
+                    LineItem lineItem = this.catalogue[this.itemPopularity.sample(random)];
+                    order.addLineItems(lineItem, 1 + random.nextInt(MAX_OCCURRENCES_PER_LINE));
+                }
+                customer.addOrder(order);
+            }
+            procedure.value(customer);
+        }
+    }
+}
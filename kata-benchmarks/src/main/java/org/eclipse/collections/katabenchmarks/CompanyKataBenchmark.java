@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The company kata solution queries run against a synthetic company with {@code size} customers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompanyKataBenchmark
+{
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Company company;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new CompanyGenerator(42L).generate(this.size);
+    }
+
+    @Benchmark
+    public MutableList<Order> getOrders()
+    {
+        return this.company.getOrders();
+    }
+
+    @Benchmark
+    public MutableSet<String> findItemNames()
+    {
+        return this.company.getOrders().flatCollect(Order::getLineItems).collect(LineItem::getName).toSet();
+    }
+
+    @Benchmark
+    public MutableListMultimap<String, Customer> customersByCity()
+    {
+        return this.company.getCustomers().groupBy(Customer::getCity);
+    }
+
+    @Benchmark
+    public MutableList<Double> sortedTotalOrderValue()
+    {
+        return this.company.getCustomers().collect(Customer::getTotalOrderValue).toSortedList();
+    }
+
+    @Benchmark
+    public Customer customerWithMaxTotalOrderValue()
+    {
+        return this.company.getCustomers().maxBy(Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public MutableMap<String, Double> totalOrderValuesByCity()
+    {
+        return this.company.getCustomers().aggregateBy(
+                Customer::getCity,
+                () -> 0.0,
+                (result, customer) -> result + customer.getTotalOrderValue());
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByCityUsingPrimitiveValues()
+    {
+        return this.company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> totalOrderValuesByItemUsingPrimitiveValues()
+    {
+        return this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue);
+    }
+
+    @Benchmark
+    public MutableSortedBag<Double> sortedOrders()
+    {
+        return this.company.getOrders()
+                .flatCollect(Order::getLineItems)
+                .collect(LineItem::getValue)
+                .select(Predicates.greaterThan(7.5))
+                .toSortedBag(Collections.reverseOrder());
+    }
+
+    @Benchmark
+    public MutableList<Customer> whoOrderedAnUnpopularItem()
+    {
+        return this.company.getCustomers().select(customer -> customer.getOrders().anySatisfy(order ->
+                order.getLineItems().anySatisfy(lineItem -> "item 999".equals(lineItem.getName()))));
+    }
+
+    @Benchmark
+    public MutableListMultimap<Double, Customer> mostExpensiveItem()
+    {
+        return this.company.getCustomers().groupBy(customer ->
+                customer.getOrders().flatCollect(Order::getLineItems).collect(LineItem::getValue).max());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.CompanySnapshot;
+import org.eclipse.collections.companykata.SnapshotCustomer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what a restarted process pays to answer a customer query from a {@link CompanySnapshot} of a generated
+ * company with {@code size} customers: mapping the snapshot and looking up one customer's orders and total order
+ * value. {@code lookup} is the same query on a snapshot that is already open.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompanySnapshotBenchmark
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path path;
+    private CompanySnapshot snapshot;
+    private String lastCustomerName;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        Company company = new CompanyGenerator(42L).generate(this.size);
+        this.lastCustomerName = company.getMostRecentCustomer().getName();
+        this.path = Files.createTempFile("company", ".snapshot");
+        CompanySnapshot.write(company, this.path);
+        this.snapshot = CompanySnapshot.open(this.path);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        this.snapshot.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    @Benchmark
+    public double openAndLookup() throws IOException
+    {
+        try (CompanySnapshot snapshot = CompanySnapshot.open(this.path))
+        {
+            return CompanySnapshotBenchmark.query(snapshot, this.lastCustomerName);
+        }
+    }
+
+    @Benchmark
+    public double lookup()
+    {
+        return CompanySnapshotBenchmark.query(this.snapshot, this.lastCustomerName);
+    }
+
+    private static double query(CompanySnapshot snapshot, String name)
+    {
+        SnapshotCustomer customer = snapshot.getCustomerNamed(name);
+        return customer.getTotalOrderValue() + customer.getOrders().size();
+    }
+}
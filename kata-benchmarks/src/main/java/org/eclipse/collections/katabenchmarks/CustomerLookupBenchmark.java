@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Company#getCustomerNamed(String)}, which is served by a name index, with a linear detect over
+ * {@link Company#getCustomers()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerLookupBenchmark
+{
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "100000", "500000"})
+    public int customerCount;
+
+    private Company company;
+    private String[] names;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new Company("Benchmark Company");
+        for (int i = 0; i < this.customerCount; i++)
+        {
+            this.company.addCustomer(new Customer("Customer " + i, "City " + i % 100));
+        }
+        Random random = new Random(42L);
+        this.names = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            this.names[i] = "Customer " + random.nextInt(this.customerCount);
+        }
+    }
+
+    private String nextName()
+    {
+        this.index = (this.index + 1) & (LOOKUPS - 1);
+        return this.names[this.index];
+    }
+
+    @Benchmark
+    public Customer indexed()
+    {
+        return this.company.getCustomerNamed(this.nextName());
+    }
+
+    @Benchmark
+    public Customer detect()
+    {
+        return this.company.getCustomers().detect(Predicates.attributeEqual(Customer::getName, this.nextName()));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.companykata.BlockOrderNumberAllocator;
+import org.eclipse.collections.companykata.OrderNumberAllocator;
+import org.eclipse.collections.companykata.SequentialOrderNumberAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares handing out order numbers from a {@link SequentialOrderNumberAllocator}, the single shared counter behind
+ * {@code new Order()}, with a {@link BlockOrderNumberAllocator}, with every available core asking for numbers at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderNumberBenchmark
+{
+    private final OrderNumberAllocator sequentialAllocator = new SequentialOrderNumberAllocator();
+    private final OrderNumberAllocator blockAllocator = new BlockOrderNumberAllocator();
+
+    @Benchmark
+    public int sequentialAllocator()
+    {
+        return this.sequentialAllocator.nextOrderNumber();
+    }
+
+    @Benchmark
+    public int blockAllocator()
+    {
+        return this.blockAllocator.nextOrderNumber();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.LineItem;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.companykata.ParallelCompany;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the Exercise 8 aggregations serially and through {@link Company#asParallel(ExecutorService, int)} with an
+ * increasing number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParallelCompanyBenchmark
+{
+    @Param("1000000")
+    public int customerCount;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param("10000")
+    public int batchSize;
+
+    private Company company;
+    private ExecutorService executorService;
+    private ParallelCompany parallelCompany;
+
+    @Setup
+    public void setUp()
+    {
+        this.company = new CompanyGenerator(42L).generate(this.customerCount);
+        this.executorService = Executors.newFixedThreadPool(this.threads);
+        this.parallelCompany = this.company.asParallel(this.executorService, this.batchSize);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> serialTotalOrderValuesByCity()
+    {
+        return this.company.getCustomers().sumByDouble(Customer::getCity, Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> parallelTotalOrderValuesByCity()
+    {
+        return this.parallelCompany.totalOrderValuesByCity();
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> serialTotalOrderValuesByItem()
+    {
+        return this.company.getOrders().flatCollect(Order::getLineItems).sumByDouble(LineItem::getName, LineItem::getValue);
+    }
+
+    @Benchmark
+    public ObjectDoubleMap<String> parallelTotalOrderValuesByItem()
+    {
+        return this.parallelCompany.totalOrderValuesByItem();
+    }
+
+    @Benchmark
+    public MapIterable<String, Double> parallelAggregateOrderValuesByCity()
+    {
+        return this.parallelCompany.aggregateOrderValuesByCity();
+    }
+
+    @Benchmark
+    public Multimap<Double, Customer> parallelCustomersByMostExpensiveItem()
+    {
+        return this.parallelCompany.customersByMostExpensiveItem();
+    }
+
+    @Benchmark
+    public Customer serialCustomerWithMaxTotalOrderValue()
+    {
+        return this.company.getCustomers().maxBy(Customer::getTotalOrderValue);
+    }
+
+    @Benchmark
+    public Customer parallelCustomerWithMaxTotalOrderValue()
+    {
+        return this.parallelCompany.customerWithMaxTotalOrderValue();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.petkata.People;
+import org.eclipse.collections.petkata.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the last of {@code size} people by full name: by scanning with a predicate that concatenates the names of
+ * every person, by scanning with {@link Person#named(String)}, and through a {@link People} registry. Run through
+ * {@link KataBenchmarks}, the GC profiler's {@code gc.alloc.rate.norm} should be zero for the last two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonLookupBenchmark
+{
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private MutableList<Person> people;
+    private People registry;
+    private String lastPersonName;
+
+    @Setup
+    public void setUp()
+    {
+        this.people = new PetWorldGenerator(42L).generate(this.size);
+        this.registry = new People().addPeople(this.people);
+        // A copy, so the lookups cannot short-cut on identity
+        this.lastPersonName = new String(this.people.getLast().getFullName());
+    }
+
+    @Benchmark
+    public Person concatenatingScan()
+    {
+        return this.people.detectWith((each, name) -> name.equals(each.getFullName()), this.lastPersonName);
+    }
+
+    @Benchmark
+    public Person namedScan()
+    {
+        return this.people.detectWith(Person::named, this.lastPersonName);
+    }
+
+    @Benchmark
+    public Person registry()
+    {
+        return this.registry.getPersonNamed(this.lastPersonName);
+    }
+}
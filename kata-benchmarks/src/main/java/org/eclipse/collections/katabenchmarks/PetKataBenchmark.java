@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.petkata.People;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.Pet;
+import org.eclipse.collections.petkata.PetTable;
+import org.eclipse.collections.petkata.PetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The pet kata solution queries run against a synthetic population of {@code size} people. The {@code Indexed}
+ * variants answer the same queries from a {@link People} registry, and the {@code Columnar} variants from a
+ * {@link PetTable}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PetKataBenchmark
+{
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private MutableList<Person> people;
+    private People registry;
+    private PetTable petTable;
+    private String lastPersonName;
+
+    @Setup
+    public void setUp()
+    {
+        this.people = new PetWorldGenerator(42L).generate(this.size);
+        this.registry = new People().addPeople(this.people);
+        this.petTable = PetTable.of(this.people);
+        Person lastPerson = this.people.getLast();
+        this.lastPersonName = lastPerson.getFullName();
+    }
+
+    @Benchmark
+    public MutableList<Person> getPeopleWithCats()
+    {
+        return this.people.selectWith(Person::hasPet, PetType.CAT);
+    }
+
+    @Benchmark
+    public MutableList<Person> getPeopleWithCatsIndexed()
+    {
+        return this.registry.getPeopleWith(PetType.CAT);
+    }
+
+    @Benchmark
+    public int howManyPeopleHaveCats()
+    {
+        return this.people.countWith(Person::hasPet, PetType.CAT);
+    }
+
+    @Benchmark
+    public int howManyPeopleHaveCatsIndexed()
+    {
+        return this.registry.countPeopleWith(PetType.CAT);
+    }
+
+    @Benchmark
+    public Person findPersonNamed()
+    {
+        return this.people.detectWith(Person::named, this.lastPersonName);
+    }
+
+    @Benchmark
+    public MutableSet<PetType> getAllPetTypesOfAllPeople()
+    {
+        return this.people.flatCollect(Person::getPetTypes, Sets.mutable.empty());
+    }
+
+    @Benchmark
+    public MutableBag<PetType> getCountsByPetType()
+    {
+        return this.people.flatCollect(Person::getPets).countBy(Pet::getType);
+    }
+
+    @Benchmark
+    public MutableSetMultimap<PetType, Person> getPeopleByTheirPets()
+    {
+        return this.people.groupByEach(Person::getPetTypes, Multimaps.mutable.set.empty());
+    }
+
+    @Benchmark
+    public ImmutableListMultimap<PetType, Person> getPeopleByTheirPetsIndexed()
+    {
+        return this.registry.getPeopleByTheirPets();
+    }
+
+    @Benchmark
+    public IntSummaryStatistics getAgeStatisticsOfPets()
+    {
+        return this.people.flatCollect(Person::getPets).collectInt(Pet::getAge).summaryStatistics();
+    }
+
+    @Benchmark
+    public IntSummaryStatistics getAgeStatisticsOfPetsColumnar()
+    {
+        return this.petTable.ageStatistics();
+    }
+
+    @Benchmark
+    public MutableMap<PetType, IntSummaryStatistics> getAgeStatisticsByPetTypeColumnar()
+    {
+        return this.petTable.ageStatisticsByType();
+    }
+
+    @Benchmark
+    public Pet getOldestPet()
+    {
+        return this.people.flatCollect(Person::getPets).maxBy(Pet::getAge);
+    }
+
+    @Benchmark
+    public double getAveragePetAge()
+    {
+        return this.people.flatCollect(Person::getPets).collectDouble(Pet::getAge).average();
+    }
+
+    @Benchmark
+    public double getAveragePetAgeColumnar()
+    {
+        return this.petTable.averageAge();
+    }
+
+    @Benchmark
+    public MutableList<ObjectIntPair<PetType>> getTopThreePetTypes()
+    {
+        return this.people.flatCollect(Person::getPets).countBy(Pet::getType).topOccurrences(3);
+    }
+}
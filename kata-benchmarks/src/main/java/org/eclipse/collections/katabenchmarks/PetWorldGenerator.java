@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.SplittableRandom;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.petkata.Person;
+import org.eclipse.collections.petkata.PetType;
+
+/**
+ * Generates a deterministic population of people and pets from a seed. Pet ownership has a long tail: most people
+ * have no pet or one, and a few have many. Pet types follow a Zipfian distribution in declaration order.
+ */
+public final class PetWorldGenerator
+{
+    private static final String[] LAST_NAMES = {"Smith", "Snake", "Bird", "Turtle", "Hamster", "Doe", "Jones", "Brown"};
+    private static final String[] PET_NAMES = {"Tabby", "Dolly", "Spot", "Tweety", "Speedy", "Fuzzy", "Wuzzy", "Serpy"};
+    private static final PetType[] PET_TYPES = PetType.values();
+    private static final int MAX_PETS = 10;
+    private static final int MAX_AGE = 20;
+
+    private final long seed;
+    private final ZipfianDistribution petCounts = new ZipfianDistribution(MAX_PETS + 1, 1.5);
+    private final ZipfianDistribution petTypes = new ZipfianDistribution(PET_TYPES.length, 1.0);
+
+    public PetWorldGenerator(long seed)
+    {
+        this.seed = seed;
+    }
+
+    public MutableList<Person> generate(int personCount)
+    {
+        MutableList<Person> people = FastList.newList(personCount);
+        this.forEachPerson(personCount, people::add);
+        return people;
+    }
+
+    /**
+     * Streams {@code personCount} people with their pets to {@code procedure} without holding on to them.
+     */
+    public void forEachPerson(int personCount, Procedure<? super Person> procedure)
+    {
+        SplittableRandom random = new SplittableRandom(this.seed);
+        for (int i = 0; i < personCount; i++)
+        {
+            Person person = new Person("Person" + i, LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            int petCount = this.petCounts.sample(random);
+            for (int j = 0; j < petCount; j++)
+            {
+                person.addPet(
+                        PET_TYPES[this.petTypes.sample(random)],
+                        PET_NAMES[random.nextInt(PET_NAMES.length)],
+                        1 + random.nextInt(MAX_AGE));
+            }
+            procedure.value(person);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.katasupport.PrimitiveReductions;
+import org.eclipse.collections.katasupport.Reductions;
+import org.eclipse.collections.petkata.PetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar {@link PrimitiveReductions} with the SIMD ones from the {@code kata-vector} module, on columns
+ * of {@code size} pet ages and type ordinals like those of a {@code PetTable}. The {@code vector} backend needs
+ * benchmarks.jar built with the {@code vector} profile and a JDK 16 or later, and the ratio of the two scores is the
+ * speedup on the host's vector width.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReductionBenchmark
+{
+    private static final int MAX_AGE = 20;
+    private static final int PET_TYPES = PetType.values().length;
+
+    @Param({"scalar", "vector"})
+    public String backend;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int size;
+
+    private PrimitiveReductions reductions;
+    private int[] ages;
+    private byte[] types;
+
+    @Setup
+    public void setUp()
+    {
+        this.reductions = "scalar".equals(this.backend) ? Reductions.scalar() : Reductions.get();
+        if (!"scalar".equals(this.backend) && this.reductions == Reductions.scalar())
+        {
+            throw new IllegalStateException("The Vector API backend is not available, build with -P vector and run on JDK 16 or later");
+        }
+        SplittableRandom random = new SplittableRandom(42L);
+        this.ages = new int[this.size];
+        this.types = new byte[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.ages[i] = 1 + random.nextInt(MAX_AGE);
+            this.types[i] = (byte) random.nextInt(PET_TYPES);
+        }
+    }
+
+    @Benchmark
+    public long sum()
+    {
+        return this.reductions.sum(this.ages, this.size);
+    }
+
+    @Benchmark
+    public int min()
+    {
+        return this.reductions.min(this.ages, this.size);
+    }
+
+    @Benchmark
+    public int max()
+    {
+        return this.reductions.max(this.ages, this.size);
+    }
+
+    @Benchmark
+    public int countGreaterThan()
+    {
+        return this.reductions.countGreaterThan(this.ages, this.size, MAX_AGE / 2);
+    }
+
+    @Benchmark
+    public int[] histogram()
+    {
+        return this.reductions.histogram(this.types, this.size, PET_TYPES);
+    }
+}
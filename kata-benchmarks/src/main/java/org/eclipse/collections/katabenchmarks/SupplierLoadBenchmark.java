@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Supplier;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading suppliers into a {@link Company}. The time per load should grow linearly with the supplier count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SupplierLoadBenchmark
+{
+    @Param({"1000", "10000", "200000"})
+    public int supplierCount;
+
+    private MutableList<Supplier> suppliers;
+
+    @Setup
+    public void setUp()
+    {
+        this.suppliers = Interval.zeroTo(this.supplierCount - 1)
+                .collect(i -> new Supplier("Supplier " + i, new String[]{"item " + i % 1000}))
+                .toList();
+    }
+
+    @Benchmark
+    public Supplier[] addSupplier()
+    {
+        Company company = new Company("Benchmark Company");
+        this.suppliers.each(company::addSupplier);
+        return company.getSuppliers();
+    }
+
+    @Benchmark
+    public Supplier[] addSuppliers()
+    {
+        Company company = new Company("Benchmark Company");
+        company.addSuppliers(this.suppliers);
+        return company.getSuppliers();
+    }
+}
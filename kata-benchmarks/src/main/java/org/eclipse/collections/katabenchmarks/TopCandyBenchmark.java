@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.candykata.CandyRankings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Bag#topOccurrences(int)}, which sorts every distinct candy, with the bounded heap in
+ * {@link CandyRankings} when ranking the hauls of {@code groupCount} school groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TopCandyBenchmark
+{
+    private static final int TOP = 10;
+
+    @Param("10000")
+    public int groupCount;
+
+    @Param("1000")
+    public int candiesPerGroup;
+
+    private MutableList<Bag<Candy>> bagsOfCandy;
+
+    @Setup
+    public void setUp()
+    {
+        this.bagsOfCandy = new CandyHaulGenerator(42L).generate(this.groupCount, this.candiesPerGroup);
+    }
+
+    @Benchmark
+    public MutableList<ListIterable<ObjectIntPair<Candy>>> topOccurrences()
+    {
+        return this.bagsOfCandy.collect(bag -> bag.topOccurrences(TOP));
+    }
+
+    @Benchmark
+    public MutableList<ListIterable<ObjectIntPair<Candy>>> boundedHeapTopOccurrences()
+    {
+        return this.bagsOfCandy.collect(bag -> CandyRankings.topOccurrences(bag, TOP));
+    }
+
+    @Benchmark
+    public MutableSet<Candy> commonInTop10()
+    {
+        return this.bagsOfCandy.collect(bag -> bag.topOccurrences(TOP)
+                .collect(ObjectIntPair::getOne)
+                .toSet())
+                .reduce(MutableSet::intersect)
+                .get();
+    }
+
+    @Benchmark
+    public MutableSet<Candy> boundedHeapCommonInTop10()
+    {
+        return CandyRankings.commonInTop(this.bagsOfCandy, TOP);
+    }
+}
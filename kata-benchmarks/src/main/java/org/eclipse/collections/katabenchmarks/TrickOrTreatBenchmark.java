@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.candykata.SchoolGroup;
+import org.eclipse.collections.impl.collector.Collectors2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the original {@code IntStream} version of {@link SchoolGroup#trickOrTreat()} with the direct counting
+ * version and with {@link SchoolGroup#trickOrTreatInParallel(ExecutorService)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TrickOrTreatBenchmark
+{
+    private static final LocalDateTime EVENING = LocalDateTime.of(2018, Month.OCTOBER, 31, 18, 0);
+
+    @Param({"1000000", "10000000"})
+    public long candyCount;
+
+    @Param("4")
+    public int threads;
+
+    private SchoolGroup schoolGroup;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.schoolGroup = SchoolGroup.of(EVENING, this.candyCount);
+        this.executorService = Executors.newFixedThreadPool(this.threads);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public Bag<Candy> intStream()
+    {
+        return new Random(EVENING.atZone(SchoolGroup.NEW_YORK).toEpochSecond())
+                .ints(0, Candy.values().length - 1)
+                .limit(this.candyCount)
+                .mapToObj(i -> Candy.values()[i])
+                .collect(Collectors2.toBag());
+    }
+
+    @Benchmark
+    public Bag<Candy> trickOrTreat()
+    {
+        return this.schoolGroup.trickOrTreat();
+    }
+
+    @Benchmark
+    public Bag<Candy> trickOrTreatInParallel()
+    {
+        return this.schoolGroup.trickOrTreatInParallel(this.executorService);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks {@code 0..n-1} where rank {@code k} is drawn with probability proportional to
+ * {@code 1 / (k + 1)^exponent}. The cumulative distribution is computed once, so each sample costs one random double
+ * and a binary search, without allocating.
+ */
+final class ZipfianDistribution
+{
+    private final double[] cumulativeProbabilities;
+
+    ZipfianDistribution(int n, double exponent)
+    {
+        if (n <= 0)
+        {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        this.cumulativeProbabilities = new double[n];
+        double total = 0.0;
+        for (int i = 0; i < n; i++)
+        {
+            total += 1.0 / Math.pow(i + 1, exponent);
+            this.cumulativeProbabilities[i] = total;
+        }
+        for (int i = 0; i < n; i++)
+        {
+            this.cumulativeProbabilities[i] /= total;
+        }
+        this.cumulativeProbabilities[n - 1] = 1.0;
+    }
+
+    int size()
+    {
+        return this.cumulativeProbabilities.length;
+    }
+
+    int sample(SplittableRandom random)
+    {
+        int index = Arrays.binarySearch(this.cumulativeProbabilities, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+}
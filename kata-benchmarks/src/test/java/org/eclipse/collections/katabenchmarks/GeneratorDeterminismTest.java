@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katabenchmarks;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.candykata.Candy;
+import org.eclipse.collections.companykata.Company;
+import org.eclipse.collections.companykata.Customer;
+import org.eclipse.collections.companykata.Order;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.petkata.Person;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GeneratorDeterminismTest
+{
+    @Test
+    public void companyDependsOnlyOnTheSeed()
+    {
+        MutableList<String> first = GeneratorDeterminismTest.describe(new CompanyGenerator(42L).generate(500));
+        new Order();
+        new CompanyGenerator(7L).generate(100);
+        MutableList<String> second = GeneratorDeterminismTest.describe(new CompanyGenerator(42L).generate(500));
+
+        Assert.assertEquals(first, second);
+        Assert.assertNotEquals(first, GeneratorDeterminismTest.describe(new CompanyGenerator(43L).generate(500)));
+    }
+
+    @Test
+    public void streamedCustomersMatchTheGeneratedCompany()
+    {
+        MutableList<String> streamed = Lists.mutable.empty();
+        new CompanyGenerator(42L).forEachCustomer(
+                CompanyGenerator.newCompany(),
+                500,
+                customer -> streamed.add(GeneratorDeterminismTest.describe(customer)));
+
+        Assert.assertEquals(GeneratorDeterminismTest.describe(new CompanyGenerator(42L).generate(500)), streamed);
+    }
+
+    @Test
+    public void petWorldDependsOnlyOnTheSeed()
+    {
+        MutableList<String> first = new PetWorldGenerator(42L).generate(1_000).collect(GeneratorDeterminismTest::describe);
+        MutableList<String> second = new PetWorldGenerator(42L).generate(1_000).collect(GeneratorDeterminismTest::describe);
+
+        Assert.assertEquals(first, second);
+        Assert.assertNotEquals(first, new PetWorldGenerator(43L).generate(1_000).collect(GeneratorDeterminismTest::describe));
+    }
+
+    @Test
+    public void candyHaulsDependOnlyOnTheSeed()
+    {
+        MutableList<Bag<Candy>> first = new CandyHaulGenerator(42L).generate(100, 1_000);
+
+        Assert.assertEquals(first, new CandyHaulGenerator(42L).generate(100, 1_000));
+        Assert.assertNotEquals(first, new CandyHaulGenerator(43L).generate(100, 1_000));
+    }
+
+    private static MutableList<String> describe(Company company)
+    {
+        return company.getCustomers().collect(GeneratorDeterminismTest::describe);
+    }
+
+    private static String describe(Customer customer)
+    {
+        return customer.getName() + " " + customer.getCity() + " " + customer.getOrders().collect(
+                order -> order.getOrderNumber() + ":" + order.getLineItems().toMapOfItemToCount());
+    }
+
+    private static String describe(Person person)
+    {
+        return person.getFullName() + " " + person.getPets().collect(
+                pet -> pet.getType() + " " + pet.getName() + " " + pet.getAge());
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.impl.bag.mutable.AbstractMutableBag;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+
+/**
+ * A {@link MutableBag} of the constants of one enum type. Each constant's count is stored in an {@code int[]} at its
+ * ordinal, so adding, removing and looking up occurrences never hashes and never allocates. Like
+ * {@link java.util.EnumMap}, the bag rejects {@code null}.
+ */
+public final class EnumBag<E extends Enum<E>>
+        extends AbstractMutableBag<E>
+{
+    private final Class<E> enumType;
+    private final E[] constants;
+    private final int[] counts;
+    private int size;
+    private int sizeDistinct;
+
+    private EnumBag(Class<E> enumType)
+    {
+        this.enumType = enumType;
+        this.constants = enumType.getEnumConstants();
+        this.counts = new int[this.constants.length];
+    }
+
+    public static <E extends Enum<E>> EnumBag<E> newBag(Class<E> enumType)
+    {
+        return new EnumBag<>(enumType);
+    }
+
+    public static <E extends Enum<E>> EnumBag<E> newBag(Class<E> enumType, Iterable<? extends E> source)
+    {
+        EnumBag<E> bag = new EnumBag<>(enumType);
+        source.forEach(bag::add);
+        return bag;
+    }
+
+    public Class<E> getEnumType()
+    {
+        return this.enumType;
+    }
+
+    private int ordinalOf(Object item)
+    {
+        if (item instanceof Enum && ((Enum<?>) item).getDeclaringClass() == this.enumType)
+        {
+            return ((Enum<?>) item).ordinal();
+        }
+        return -1;
+    }
+
+    private int checkedOrdinalOf(E item)
+    {
+        if (item == null)
+        {
+            throw new NullPointerException("EnumBag does not permit null");
+        }
+        // Checked at run time, as a raw EnumBag can be passed a constant of any enum
+        if (item.getDeclaringClass() != this.enumType)
+        {
+            throw new ClassCastException(item.getDeclaringClass() + " != " + this.enumType);
+        }
+        return item.ordinal();
+    }
+
+    /**
+     * Sets the count at {@code ordinal}, keeping {@link #size()} and {@link #sizeDistinct()} in step.
+     */
+    private void setCount(int ordinal, int count)
+    {
+        int oldCount = this.counts[ordinal];
+        this.counts[ordinal] = count;
+        this.size += count - oldCount;
+        if (oldCount == 0 && count > 0)
+        {
+            this.sizeDistinct++;
+        }
+        else if (oldCount > 0 && count == 0)
+        {
+            this.sizeDistinct--;
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        int ordinal = this.ordinalOf(item);
+        return ordinal < 0 ? 0 : this.counts[ordinal];
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public boolean add(E item)
+    {
+        int ordinal = this.checkedOrdinalOf(item);
+        if (this.counts[ordinal]++ == 0)
+        {
+            this.sizeDistinct++;
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public int addOccurrences(E item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        int ordinal = this.checkedOrdinalOf(item);
+        this.setCount(ordinal, this.counts[ordinal] + occurrences);
+        return this.counts[ordinal];
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        int ordinal = this.ordinalOf(item);
+        if (occurrences == 0 || ordinal < 0 || this.counts[ordinal] == 0)
+        {
+            return false;
+        }
+        this.setCount(ordinal, Math.max(0, this.counts[ordinal] - occurrences));
+        return true;
+    }
+
+    @Override
+    public boolean setOccurrences(E item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        int ordinal = this.checkedOrdinalOf(item);
+        if (this.counts[ordinal] == occurrences)
+        {
+            return false;
+        }
+        this.setCount(ordinal, occurrences);
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.counts, 0);
+        this.size = 0;
+        this.sizeDistinct = 0;
+    }
+
+    @Override
+    public void each(Procedure<? super E> procedure)
+    {
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            E constant = this.constants[ordinal];
+            for (int i = this.counts[ordinal]; i > 0; i--)
+            {
+                procedure.value(constant);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super E> procedure)
+    {
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            int count = this.counts[ordinal];
+            if (count > 0)
+            {
+                procedure.value(this.constants[ordinal], count);
+            }
+        }
+    }
+
+    @Override
+    protected RichIterable<E> getKeysView()
+    {
+        return ArrayAdapter.adapt(this.constants).asLazy().select(each -> this.counts[each.ordinal()] > 0);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new EnumBagIterator();
+    }
+
+    @Override
+    public EnumBag<E> newEmpty()
+    {
+        return new EnumBag<>(this.enumType);
+    }
+
+    @Override
+    public EnumBag<E> with(E element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> without(E element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> withAll(Iterable<? extends E> elements)
+    {
+        elements.forEach(this::add);
+        return this;
+    }
+
+    @Override
+    public EnumBag<E> withoutAll(Iterable<? extends E> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        int oldSize = this.size;
+        for (Object each : iterable)
+        {
+            int ordinal = this.ordinalOf(each);
+            if (ordinal >= 0)
+            {
+                this.setCount(ordinal, 0);
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> predicate)
+    {
+        int oldSize = this.size;
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            if (this.counts[ordinal] > 0 && predicate.accept(this.constants[ordinal]))
+            {
+                this.setCount(ordinal, 0);
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super E, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public EnumBag<E> selectByOccurrences(IntPredicate predicate)
+    {
+        EnumBag<E> result = this.newEmpty();
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            int count = this.counts[ordinal];
+            if (count > 0 && predicate.accept(count))
+            {
+                result.setCount(ordinal, count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MutableMap<E, Integer> toMapOfItemToCount()
+    {
+        MutableMap<E, Integer> map = UnifiedMap.newMap(this.sizeDistinct);
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, E> groupBy(Function<? super E, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> MutableBagMultimap<V, E> groupByEach(Function<? super E, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            int count = this.counts[ordinal];
+            if (count > 0 && bag.occurrencesOf(this.constants[ordinal]) != count)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int ordinal = 0; ordinal < this.counts.length; ordinal++)
+        {
+            int count = this.counts[ordinal];
+            if (count > 0)
+            {
+                hashCode += this.constants[ordinal].hashCode() ^ count;
+            }
+        }
+        return hashCode;
+    }
+
+    private final class EnumBagIterator implements Iterator<E>
+    {
+        private int ordinal = -1;
+        private int remainingInOrdinal;
+        private int returned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.returned < EnumBag.this.size;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            while (this.remainingInOrdinal == 0)
+            {
+                this.ordinal++;
+                this.remainingInOrdinal = EnumBag.this.counts[this.ordinal];
+            }
+            this.remainingInOrdinal--;
+            this.returned++;
+            this.canRemove = true;
+            return EnumBag.this.constants[this.ordinal];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            EnumBag.this.setCount(this.ordinal, EnumBag.this.counts[this.ordinal] - 1);
+            this.returned--;
+            this.canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+/**
+ * Reductions over the first {@code size} elements of primitive arrays. {@link Reductions#get()} returns the fastest
+ * implementation available: a SIMD one from the optional {@code kata-vector} module when it is on the class path and
+ * the JDK provides the Vector API, and a scalar one otherwise. All implementations return the same results.
+ */
+public interface PrimitiveReductions
+{
+    long sum(int[] values, int size);
+
+    /**
+     * Returns the smallest value, or throws a {@link java.util.NoSuchElementException} if {@code size} is zero.
+     */
+    int min(int[] values, int size);
+
+    /**
+     * Returns the largest value, or throws a {@link java.util.NoSuchElementException} if {@code size} is zero.
+     */
+    int max(int[] values, int size);
+
+    int countGreaterThan(int[] values, int size, int threshold);
+
+    /**
+     * Counts the occurrences of each ordinal from {@code 0} to {@code buckets - 1}. Every ordinal must be in that
+     * range.
+     */
+    int[] histogram(byte[] ordinals, int size, int buckets);
+}
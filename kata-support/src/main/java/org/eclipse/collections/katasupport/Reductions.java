@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+/**
+ * Chooses the {@link PrimitiveReductions} implementation once per JVM. The SIMD implementation in the optional
+ * {@code kata-vector} module is used when it can be loaded, which needs JDK 16 or later started with
+ * {@code --add-modules jdk.incubator.vector}. Set the system property {@value #SCALAR_PROPERTY} to {@code true} to
+ * use the scalar implementation regardless.
+ */
+public final class Reductions
+{
+    public static final String SCALAR_PROPERTY = "katasupport.reductions.scalar";
+
+    private static final String VECTOR_REDUCTIONS = "org.eclipse.collections.katavector.VectorReductions";
+    private static final PrimitiveReductions BEST = Reductions.load();
+
+    private Reductions()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static PrimitiveReductions get()
+    {
+        return BEST;
+    }
+
+    public static PrimitiveReductions scalar()
+    {
+        return ScalarReductions.INSTANCE;
+    }
+
+    private static PrimitiveReductions load()
+    {
+        if (Boolean.getBoolean(SCALAR_PROPERTY))
+        {
+            return ScalarReductions.INSTANCE;
+        }
+        try
+        {
+            return (PrimitiveReductions) Class.forName(VECTOR_REDUCTIONS).getConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError e)
+        {
+            // No kata-vector on the class path, or a JDK without the Vector API
+            return ScalarReductions.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link PrimitiveReductions} as plain loops, which the JIT compiler may still unroll or auto-vectorize.
+ */
+final class ScalarReductions implements PrimitiveReductions
+{
+    static final ScalarReductions INSTANCE = new ScalarReductions();
+
+    private ScalarReductions()
+    {
+    }
+
+    @Override
+    public long sum(int[] values, int size)
+    {
+        long sum = 0L;
+        for (int i = 0; i < size; i++)
+        {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, int size)
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int min = values[0];
+        for (int i = 1; i < size; i++)
+        {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values, int size)
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int max = values[0];
+        for (int i = 1; i < size; i++)
+        {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countGreaterThan(int[] values, int size, int threshold)
+    {
+        int count = 0;
+        for (int i = 0; i < size; i++)
+        {
+            if (values[i] > threshold)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int[] histogram(byte[] ordinals, int size, int buckets)
+    {
+        int[] counts = new int[buckets];
+        for (int i = 0; i < size; i++)
+        {
+            counts[ordinals[i]]++;
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "scalar";
+    }
+}
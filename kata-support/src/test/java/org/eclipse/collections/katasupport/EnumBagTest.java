@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+import java.time.DayOfWeek;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnumBagTest
+{
+    @Test
+    public void addAndOccurrencesOf()
+    {
+        EnumBag<DayOfWeek> bag = EnumBag.newBag(DayOfWeek.class);
+        Assert.assertTrue(bag.isEmpty());
+
+        bag.add(DayOfWeek.MONDAY);
+        bag.add(DayOfWeek.FRIDAY);
+        bag.add(DayOfWeek.MONDAY);
+        Assert.assertEquals(2, bag.addOccurrences(DayOfWeek.SUNDAY, 2));
+
+        Assert.assertEquals(5, bag.size());
+        Assert.assertEquals(3, bag.sizeDistinct());
+        Assert.assertEquals(2, bag.occurrencesOf(DayOfWeek.MONDAY));
+        Assert.assertEquals(0, bag.occurrencesOf(DayOfWeek.TUESDAY));
+        Assert.assertEquals(0, bag.occurrencesOf(TimeUnit.DAYS));
+        Assert.assertEquals(0, bag.occurrencesOf(null));
+        Assert.assertTrue(bag.contains(DayOfWeek.FRIDAY));
+        Assert.assertFalse(bag.contains("FRIDAY"));
+    }
+
+    @Test
+    public void removeAndSetOccurrences()
+    {
+        EnumBag<DayOfWeek> bag = EnumBag.newBag(
+                DayOfWeek.class,
+                Lists.mutable.with(DayOfWeek.MONDAY, DayOfWeek.MONDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+
+        Assert.assertTrue(bag.remove(DayOfWeek.MONDAY));
+        Assert.assertFalse(bag.remove(DayOfWeek.SUNDAY));
+        Assert.assertTrue(bag.removeOccurrences(DayOfWeek.MONDAY, 5));
+        Assert.assertEquals(1, bag.size());
+        Assert.assertEquals(1, bag.sizeDistinct());
+
+        Assert.assertTrue(bag.setOccurrences(DayOfWeek.TUESDAY, 4));
+        Assert.assertFalse(bag.setOccurrences(DayOfWeek.TUESDAY, 4));
+        Assert.assertTrue(bag.setOccurrences(DayOfWeek.WEDNESDAY, 1));
+        Assert.assertEquals(
+                Bags.mutable.with(DayOfWeek.TUESDAY, DayOfWeek.TUESDAY, DayOfWeek.TUESDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY),
+                bag);
+
+        bag.clear();
+        Assert.assertTrue(bag.isEmpty());
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void equalsAndHashCodeMatchHashBag()
+    {
+        MutableBag<DayOfWeek> hashBag = HashBag.newBagWith(DayOfWeek.MONDAY, DayOfWeek.MONDAY, DayOfWeek.SATURDAY);
+        EnumBag<DayOfWeek> enumBag = EnumBag.newBag(DayOfWeek.class, hashBag);
+
+        Assert.assertEquals(hashBag, enumBag);
+        Assert.assertEquals(enumBag, hashBag);
+        Assert.assertEquals(hashBag.hashCode(), enumBag.hashCode());
+        Assert.assertNotEquals(hashBag, enumBag.with(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void iterateInOrdinalOrder()
+    {
+        EnumBag<DayOfWeek> bag = EnumBag.newBag(
+                DayOfWeek.class,
+                Lists.mutable.with(DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.SUNDAY, DayOfWeek.WEDNESDAY));
+
+        Assert.assertEquals(
+                Lists.mutable.with(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY, DayOfWeek.SUNDAY),
+                bag.toList());
+        MutableList<ObjectIntPair<DayOfWeek>> expectedTop = Lists.mutable.empty();
+        expectedTop.add(PrimitiveTuples.pair(DayOfWeek.SUNDAY, 2));
+        expectedTop.add(PrimitiveTuples.pair(DayOfWeek.MONDAY, 1));
+        expectedTop.add(PrimitiveTuples.pair(DayOfWeek.WEDNESDAY, 1));
+        Assert.assertEquals(expectedTop, bag.topOccurrences(3));
+
+        Iterator<DayOfWeek> iterator = bag.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() == DayOfWeek.SUNDAY)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Bags.mutable.with(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), bag);
+    }
+
+    @Test
+    public void selectByOccurrencesAndRemoveIf()
+    {
+        EnumBag<DayOfWeek> bag = EnumBag.newBag(
+                DayOfWeek.class,
+                Lists.mutable.with(DayOfWeek.MONDAY, DayOfWeek.MONDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+
+        Assert.assertEquals(
+                Bags.mutable.with(DayOfWeek.MONDAY, DayOfWeek.MONDAY),
+                bag.selectByOccurrences(occurrences -> occurrences > 1));
+        Assert.assertTrue(bag.removeIf(day -> day.getValue() >= 6));
+        Assert.assertEquals(Bags.mutable.with(DayOfWeek.MONDAY, DayOfWeek.MONDAY, DayOfWeek.FRIDAY), bag);
+        Assert.assertFalse(bag.removeIf(day -> day == DayOfWeek.SUNDAY));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void addNull()
+    {
+        EnumBag.newBag(DayOfWeek.class).add(null);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void addConstantOfAnotherEnum()
+    {
+        EnumBag rawBag = EnumBag.newBag(DayOfWeek.class);
+        for (TimeUnit timeUnit : TimeUnit.values())
+        {
+            try
+            {
+                rawBag.add(timeUnit);
+                Assert.fail("Added " + timeUnit);
+            }
+            catch (ClassCastException expected)
+            {
+            }
+            try
+            {
+                rawBag.setOccurrences(timeUnit, 1);
+                Assert.fail("Set " + timeUnit);
+            }
+            catch (ClassCastException expected)
+            {
+            }
+        }
+        Assert.assertTrue(rawBag.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addNegativeOccurrences()
+    {
+        EnumBag.newBag(DayOfWeek.class).addOccurrences(DayOfWeek.MONDAY, -1);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katasupport;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReductionsTest
+{
+    private final PrimitiveReductions reductions = Reductions.scalar();
+
+    @Test
+    public void reductions()
+    {
+        int[] values = {5, -3, 12, 7, 0, 99, 99};
+        Assert.assertEquals(21L, this.reductions.sum(values, 5));
+        Assert.assertEquals(-3, this.reductions.min(values, 5));
+        Assert.assertEquals(12, this.reductions.max(values, 5));
+        Assert.assertEquals(3, this.reductions.countGreaterThan(values, 5, 0));
+        Assert.assertEquals(0L, this.reductions.sum(values, 0));
+        Assert.assertEquals(0, this.reductions.countGreaterThan(values, 0, 0));
+    }
+
+    @Test
+    public void sumDoesNotOverflow()
+    {
+        int[] values = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        Assert.assertEquals(3L * Integer.MAX_VALUE, this.reductions.sum(values, values.length));
+    }
+
+    @Test
+    public void histogram()
+    {
+        byte[] ordinals = {0, 2, 2, 1, 2, 0, 3};
+        Assert.assertArrayEquals(new int[]{2, 1, 3, 0, 0}, this.reductions.histogram(ordinals, 6, 5));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void minOfNothing()
+    {
+        this.reductions.min(new int[]{1}, 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void maxOfNothing()
+    {
+        this.reductions.max(new int[0], 0);
+    }
+
+    @Test
+    public void fallsBackToScalar()
+    {
+        // kata-vector is not a dependency of this module
+        Assert.assertSame(Reductions.scalar(), Reductions.get());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katavector;
+
+import java.util.NoSuchElementException;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.eclipse.collections.katasupport.PrimitiveReductions;
+import org.eclipse.collections.katasupport.Reductions;
+
+/**
+ * {@link PrimitiveReductions} on the incubating Vector API, using the widest vectors the CPU supports, for example
+ * 8 ints per vector with AVX2 and 16 with AVX-512. The elements left over after the last full vector are reduced by
+ * a scalar loop. Loaded by {@link Reductions#get()}.
+ */
+public final class VectorReductions implements PrimitiveReductions
+{
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    // Each bucket costs one comparison per vector, so many buckets are faster counted one ordinal at a time
+    private static final int MAX_VECTOR_BUCKETS = 16;
+
+    @Override
+    public long sum(int[] values, int size)
+    {
+        VectorReductions.checkSize(values.length, size);
+        int i = 0;
+        int upperBound = INTS.loopBound(size);
+        LongVector sums = LongVector.zero(LONGS);
+        for (; i < upperBound; i += INTS.length())
+        {
+            // Widen each half of the ints to longs, so the sum cannot overflow
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            sums = sums
+                    .add(vector.convertShape(VectorOperators.I2L, LONGS, 0))
+                    .add(vector.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++)
+        {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, int size)
+    {
+        VectorReductions.checkNotEmpty(values.length, size);
+        int i = 0;
+        int upperBound = INTS.loopBound(size);
+        IntVector mins = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        for (; i < upperBound; i += INTS.length())
+        {
+            mins = mins.min(IntVector.fromArray(INTS, values, i));
+        }
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++)
+        {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values, int size)
+    {
+        VectorReductions.checkNotEmpty(values.length, size);
+        int i = 0;
+        int upperBound = INTS.loopBound(size);
+        IntVector maxes = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        for (; i < upperBound; i += INTS.length())
+        {
+            maxes = maxes.max(IntVector.fromArray(INTS, values, i));
+        }
+        int max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++)
+        {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countGreaterThan(int[] values, int size, int threshold)
+    {
+        VectorReductions.checkSize(values.length, size);
+        int i = 0;
+        int upperBound = INTS.loopBound(size);
+        int count = 0;
+        for (; i < upperBound; i += INTS.length())
+        {
+            count += IntVector.fromArray(INTS, values, i).compare(VectorOperators.GT, threshold).trueCount();
+        }
+        for (; i < size; i++)
+        {
+            if (values[i] > threshold)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int[] histogram(byte[] ordinals, int size, int buckets)
+    {
+        if (buckets > MAX_VECTOR_BUCKETS)
+        {
+            return Reductions.scalar().histogram(ordinals, size, buckets);
+        }
+        VectorReductions.checkSize(ordinals.length, size);
+        int[] counts = new int[buckets];
+        int i = 0;
+        int upperBound = BYTES.loopBound(size);
+        for (; i < upperBound; i += BYTES.length())
+        {
+            ByteVector vector = ByteVector.fromArray(BYTES, ordinals, i);
+            for (int bucket = 0; bucket < buckets; bucket++)
+            {
+                counts[bucket] += vector.eq((byte) bucket).trueCount();
+            }
+        }
+        for (; i < size; i++)
+        {
+            counts[ordinals[i]]++;
+        }
+        return counts;
+    }
+
+    private static void checkSize(int length, int size)
+    {
+        if (size < 0 || size > length)
+        {
+            throw new IndexOutOfBoundsException("Size: " + size + " Length: " + length);
+        }
+    }
+
+    private static void checkNotEmpty(int length, int size)
+    {
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        VectorReductions.checkSize(length, size);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "vector " + INTS.vectorBitSize() + " bit";
+    }
+}
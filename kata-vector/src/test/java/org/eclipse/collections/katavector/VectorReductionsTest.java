@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.katavector;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.eclipse.collections.katasupport.PrimitiveReductions;
+import org.eclipse.collections.katasupport.Reductions;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VectorReductionsTest
+{
+    private final PrimitiveReductions vector = new VectorReductions();
+    private final PrimitiveReductions scalar = Reductions.scalar();
+
+    @Test
+    public void loadedByReductions()
+    {
+        Assert.assertTrue(Reductions.get() instanceof VectorReductions);
+    }
+
+    @Test
+    public void matchesScalar()
+    {
+        Random random = new Random(42L);
+        int[] values = new int[300];
+        byte[] ordinals = new byte[300];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = random.nextInt();
+            ordinals[i] = (byte) random.nextInt(6);
+        }
+        for (int size = 0; size <= values.length; size++)
+        {
+            Assert.assertEquals(this.scalar.sum(values, size), this.vector.sum(values, size));
+            Assert.assertEquals(
+                    this.scalar.countGreaterThan(values, size, 1 << 20),
+                    this.vector.countGreaterThan(values, size, 1 << 20));
+            Assert.assertArrayEquals(
+                    this.scalar.histogram(ordinals, size, 6),
+                    this.vector.histogram(ordinals, size, 6));
+            if (size > 0)
+            {
+                Assert.assertEquals(this.scalar.min(values, size), this.vector.min(values, size));
+                Assert.assertEquals(this.scalar.max(values, size), this.vector.max(values, size));
+            }
+        }
+    }
+
+    @Test
+    public void sumDoesNotOverflow()
+    {
+        int[] values = new int[100];
+        Arrays.fill(values, Integer.MAX_VALUE);
+        Assert.assertEquals(100L * Integer.MAX_VALUE, this.vector.sum(values, values.length));
+        Arrays.fill(values, Integer.MIN_VALUE);
+        Assert.assertEquals(100L * Integer.MIN_VALUE, this.vector.sum(values, values.length));
+    }
+
+    @Test
+    public void histogramWithManyBuckets()
+    {
+        byte[] ordinals = new byte[100];
+        for (int i = 0; i < ordinals.length; i++)
+        {
+            ordinals[i] = (byte) (i % 40);
+        }
+        Assert.assertArrayEquals(this.scalar.histogram(ordinals, 100, 40), this.vector.histogram(ordinals, 100, 40));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void minOfNothing()
+    {
+        this.vector.min(new int[8], 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sizeLargerThanArray()
+    {
+        this.vector.sum(new int[8], 9);
+    }
+}
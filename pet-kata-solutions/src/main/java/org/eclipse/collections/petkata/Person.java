@@ -12,15 +12,23 @@ package org.eclipse.collections.petkata;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.impl.bag.mutable.HashBag;
-import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.katasupport.EnumBag;
 
+/**
+ * A person with a list of {@link Pet}s. The types of pet the person owns are also kept as a bitmask indexed by
+ * {@link PetType} ordinal, so {@link #hasPet(PetType)} is a single bit test. Pets must be added with
+ * {@link #addPet(PetType, String, int)} to keep the bitmask, and the {@link People} registry the person belongs to,
+ * up to date.
+ */
 public class Person
 {
     private final String firstName;
     private final String lastName;
     private final MutableList<Pet> pets = FastList.newList();
+    private final MutableList<Pet> petsView = this.pets.asUnmodifiable();
+    private byte petTypes;
+    private People people;
 
     public Person(String firstName, String lastName)
     {
@@ -38,32 +46,79 @@ public class Person
         return this.lastName;
     }
 
+    /**
+     * Returns the first and last name separated by a space. A new String is built on every call, so use
+     * {@link #named(String)} to compare names.
+     */
+    public String getFullName()
+    {
+        return this.firstName + ' ' + this.lastName;
+    }
+
+    /**
+     * Returns whether {@code name} is this person's full name. The first and last names are compared in place, so no
+     * String is built.
+     */
     public boolean named(String name)
     {
-        return name.equals(this.firstName + ' ' + this.lastName);
+        int firstNameLength = this.firstName.length();
+        return name.length() == firstNameLength + 1 + this.lastName.length()
+                && name.startsWith(this.firstName)
+                && name.charAt(firstNameLength) == ' '
+                && name.endsWith(this.lastName);
     }
 
     public boolean hasPet(PetType petType)
     {
-        return this.pets.anySatisfyWith(Predicates2.attributeEqual(Pet::getType), petType);
+        return (this.petTypes & Person.bitOf(petType)) != 0;
     }
 
+    /**
+     * Returns a read-only view of the pets. Pets are added with {@link #addPet(PetType, String, int)}.
+     */
     public MutableList<Pet> getPets()
     {
-        return this.pets;
+        return this.petsView;
     }
 
     public MutableBag<PetType> getPetTypes()
     {
-        return this.pets.collect(Pet::getType, HashBag.newBag());
+        return this.pets.collect(Pet::getType, EnumBag.newBag(PetType.class));
     }
 
     public Person addPet(PetType petType, String name, int age)
     {
         this.pets.add(new Pet(petType, name, age));
+        int bit = Person.bitOf(petType);
+        if ((this.petTypes & bit) == 0)
+        {
+            this.petTypes |= bit;
+            if (this.people != null)
+            {
+                this.people.petTypeAdded(this, petType);
+            }
+        }
         return this;
     }
 
+    private static int bitOf(PetType petType)
+    {
+        // PetType has fewer than Byte.SIZE constants, so every type has a bit in the byte
+        return 1 << petType.ordinal();
+    }
+
+    /**
+     * Called by {@link People#addPerson(Person)}.
+     */
+    void setPeople(People people)
+    {
+        if (this.people != null)
+        {
+            throw new IllegalStateException(this.getFullName() + " is already registered");
+        }
+        this.people = people;
+    }
+
     public boolean isPetPerson()
     {
         return this.getNumberOfPets() >= 1;
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.petkata;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.katasupport.EnumBag;
+import org.eclipse.collections.katasupport.PrimitiveReductions;
+import org.eclipse.collections.katasupport.Reductions;
+
+/**
+ * A column-oriented snapshot of the {@link Pet}s of some {@link Person}s. Each pet is a row in three primitive
+ * columns: its {@link PetType} ordinal as a byte, its age as an int, and the index of its owner in the table's owners.
+ * Age statistics are computed by loops over these arrays, without visiting a {@link Pet} object or building an
+ * intermediate list of ages. Sums, minimums, maximums, counts and the histogram of types use {@link Reductions#get()},
+ * which runs them with SIMD instructions when the optional Vector API backend is available.
+ * <p>
+ * The table does not see pets added to a person after the person was added to the table.
+ */
+public class PetTable
+{
+    private static final PetType[] PET_TYPES = PetType.values();
+    private static final PrimitiveReductions REDUCTIONS = Reductions.get();
+
+    private Person[] owners;
+    private int ownerCount;
+    private byte[] types;
+    private int[] ages;
+    private int[] ownerIndexes;
+    private int size;
+
+    public PetTable()
+    {
+        this(16, 16);
+    }
+
+    public PetTable(int initialOwnerCapacity, int initialPetCapacity)
+    {
+        this.owners = new Person[initialOwnerCapacity];
+        this.types = new byte[initialPetCapacity];
+        this.ages = new int[initialPetCapacity];
+        this.ownerIndexes = new int[initialPetCapacity];
+    }
+
+    public static PetTable of(Iterable<? extends Person> people)
+    {
+        PetTable table = new PetTable();
+        people.forEach(table::addPets);
+        return table;
+    }
+
+    /**
+     * Adds a row for each of the person's pets.
+     */
+    public PetTable addPets(Person person)
+    {
+        if (this.ownerCount == this.owners.length)
+        {
+            this.owners = Arrays.copyOf(this.owners, PetTable.grow(this.owners.length));
+        }
+        int ownerIndex = this.ownerCount++;
+        this.owners[ownerIndex] = person;
+        person.getPets().forEach(pet -> this.addRow(pet.getType(), pet.getAge(), ownerIndex));
+        return this;
+    }
+
+    private void addRow(PetType type, int age, int ownerIndex)
+    {
+        if (this.size == this.types.length)
+        {
+            int capacity = PetTable.grow(this.types.length);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.ages = Arrays.copyOf(this.ages, capacity);
+            this.ownerIndexes = Arrays.copyOf(this.ownerIndexes, capacity);
+        }
+        this.types[this.size] = (byte) type.ordinal();
+        this.ages[this.size] = age;
+        this.ownerIndexes[this.size] = ownerIndex;
+        this.size++;
+    }
+
+    private static int grow(int capacity)
+    {
+        return Math.max(16, capacity + (capacity >> 1));
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public PetType getType(int row)
+    {
+        this.checkRow(row);
+        return PET_TYPES[this.types[row]];
+    }
+
+    public int getAge(int row)
+    {
+        this.checkRow(row);
+        return this.ages[row];
+    }
+
+    public Person getOwner(int row)
+    {
+        this.checkRow(row);
+        return this.owners[this.ownerIndexes[row]];
+    }
+
+    private void checkRow(int row)
+    {
+        if (row < 0 || row >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Row: " + row + " Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns the smallest pet age, or throws a {@link NoSuchElementException} if the table is empty.
+     */
+    public int minAge()
+    {
+        return REDUCTIONS.min(this.ages, this.size);
+    }
+
+    /**
+     * Returns the largest pet age, or throws a {@link NoSuchElementException} if the table is empty.
+     */
+    public int maxAge()
+    {
+        return REDUCTIONS.max(this.ages, this.size);
+    }
+
+    /**
+     * Returns the average pet age, or throws an {@link ArithmeticException} if the table is empty.
+     */
+    public double averageAge()
+    {
+        if (this.size == 0)
+        {
+            throw new ArithmeticException("Average of no pets");
+        }
+        return (double) this.sumOfAges() / this.size;
+    }
+
+    public long sumOfAges()
+    {
+        return REDUCTIONS.sum(this.ages, this.size);
+    }
+
+    public int countOlderThan(int age)
+    {
+        return REDUCTIONS.countGreaterThan(this.ages, this.size, age);
+    }
+
+    /**
+     * Returns the number of pets of each type, from a histogram of the type column.
+     */
+    public MutableBag<PetType> countByType()
+    {
+        int[] counts = REDUCTIONS.histogram(this.types, this.size, PET_TYPES.length);
+        MutableBag<PetType> bag = EnumBag.newBag(PetType.class);
+        for (int i = 0; i < counts.length; i++)
+        {
+            bag.addOccurrences(PET_TYPES[i], counts[i]);
+        }
+        return bag;
+    }
+
+    public IntSummaryStatistics ageStatistics()
+    {
+        int[] ages = this.ages;
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int i = 0; i < this.size; i++)
+        {
+            statistics.accept(ages[i]);
+        }
+        return statistics;
+    }
+
+    public IntSummaryStatistics ageStatistics(PetType type)
+    {
+        byte[] types = this.types;
+        int[] ages = this.ages;
+        byte ordinal = (byte) type.ordinal();
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (int i = 0; i < this.size; i++)
+        {
+            if (types[i] == ordinal)
+            {
+                statistics.accept(ages[i]);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the age statistics of each type of pet in the table, computed in one pass.
+     */
+    public MutableMap<PetType, IntSummaryStatistics> ageStatisticsByType()
+    {
+        byte[] types = this.types;
+        int[] ages = this.ages;
+        IntSummaryStatistics[] statistics = new IntSummaryStatistics[PET_TYPES.length];
+        for (int i = 0; i < this.size; i++)
+        {
+            IntSummaryStatistics typeStatistics = statistics[types[i]];
+            if (typeStatistics == null)
+            {
+                typeStatistics = new IntSummaryStatistics();
+                statistics[types[i]] = typeStatistics;
+            }
+            typeStatistics.accept(ages[i]);
+        }
+        MutableMap<PetType, IntSummaryStatistics> result = UnifiedMap.newMap();
+        for (int i = 0; i < statistics.length; i++)
+        {
+            if (statistics[i] != null)
+            {
+                result.put(PET_TYPES[i], statistics[i]);
+            }
+        }
+        return result;
+    }
+}
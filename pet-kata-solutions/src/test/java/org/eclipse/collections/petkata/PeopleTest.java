@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.petkata;
+
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PeopleTest
+{
+    @Test
+    public void named()
+    {
+        Person mary = new Person("Mary", "Smith");
+        Assert.assertEquals("Mary Smith", mary.getFullName());
+        Assert.assertTrue(mary.named("Mary Smith"));
+        Assert.assertFalse(mary.named("Mary Smithe"));
+        Assert.assertFalse(mary.named("MarySmith"));
+        Assert.assertFalse(mary.named("Mary-Smith"));
+        Assert.assertFalse(mary.named("Mar Smith"));
+        Assert.assertFalse(mary.named(""));
+        Assert.assertTrue(new Person("Mary", "").named("Mary "));
+    }
+
+    @Test
+    public void getPersonNamed()
+    {
+        Person mary = new Person("Mary", "Smith");
+        Person bob = new Person("Bob", "Smith");
+        Person otherMary = new Person("Mary", "Smith");
+        People people = new People().addPerson(mary).addPeople(Lists.mutable.with(bob, otherMary));
+
+        Assert.assertSame(mary, people.getPersonNamed("Mary Smith"));
+        Assert.assertSame(bob, people.getPersonNamed("Bob Smith"));
+        Assert.assertNull(people.getPersonNamed("Ted Smith"));
+        Assert.assertEquals(Lists.mutable.with(mary, bob, otherMary), people.getPeople());
+        Assert.assertEquals(3, people.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getPeopleIsReadOnly()
+    {
+        new People().getPeople().add(new Person("John", "Doe"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getPetsIsReadOnly()
+    {
+        new Person("John", "Doe").getPets().add(new Pet(PetType.CAT, "Tabby", 2));
+    }
+
+    @Test
+    public void hasPet()
+    {
+        Person bob = new Person("Bob", "Smith");
+        Assert.assertFalse(bob.hasPet(PetType.CAT));
+        bob.addPet(PetType.CAT, "Dolly", 3).addPet(PetType.SNAKE, "Serpy", 1).addPet(PetType.CAT, "Tabby", 2);
+        Assert.assertTrue(bob.hasPet(PetType.CAT));
+        Assert.assertTrue(bob.hasPet(PetType.SNAKE));
+        Assert.assertFalse(bob.hasPet(PetType.DOG));
+    }
+
+    @Test
+    public void peopleByPetType()
+    {
+        Person mary = new Person("Mary", "Smith").addPet(PetType.CAT, "Tabby", 2);
+        Person bob = new Person("Bob", "Smith").addPet(PetType.DOG, "Spot", 2);
+        Person john = new Person("John", "Doe");
+        People people = new People().addPeople(Lists.mutable.with(mary, bob, john));
+        bob.addPet(PetType.CAT, "Dolly", 3).addPet(PetType.CAT, "Tom", 5);
+        john.addPet(PetType.HAMSTER, "Fuzzy", 1);
+
+        Assert.assertEquals(Lists.mutable.with(mary, bob), people.getPeopleWith(PetType.CAT));
+        Assert.assertEquals(2, people.countPeopleWith(PetType.CAT));
+        Assert.assertEquals(Lists.mutable.with(john), people.getPeopleWith(PetType.HAMSTER));
+        Assert.assertTrue(people.getPeopleWith(PetType.TURTLE).isEmpty());
+        Assert.assertEquals(0, people.countPeopleWith(PetType.TURTLE));
+        Assert.assertEquals(
+                people.getPeople().groupByEach(person -> person.getPetTypes().toSet()),
+                people.getPeopleByTheirPets());
+    }
+
+    @Test
+    public void peopleByTheirPetsIsCachedUntilAPetTypeIsAdded()
+    {
+        Person mary = new Person("Mary", "Smith").addPet(PetType.CAT, "Tabby", 2);
+        People people = new People().addPerson(mary);
+        ImmutableListMultimap<PetType, Person> peopleByTheirPets = people.getPeopleByTheirPets();
+        Assert.assertSame(peopleByTheirPets, people.getPeopleByTheirPets());
+
+        mary.addPet(PetType.CAT, "Tom", 5);
+        Assert.assertSame(peopleByTheirPets, people.getPeopleByTheirPets());
+
+        mary.addPet(PetType.DOG, "Spot", 4);
+        Assert.assertNotSame(peopleByTheirPets, people.getPeopleByTheirPets());
+        Assert.assertEquals(Lists.mutable.with(mary), people.getPeopleByTheirPets().get(PetType.DOG));
+        Assert.assertTrue(peopleByTheirPets.get(PetType.DOG).isEmpty());
+
+        Person bob = new Person("Bob", "Smith").addPet(PetType.DOG, "Rex", 3);
+        people.addPerson(bob);
+        Assert.assertEquals(Lists.mutable.with(mary, bob), people.getPeopleByTheirPets().get(PetType.DOG));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void personBelongsToOneRegistry()
+    {
+        Person mary = new Person("Mary", "Smith");
+        new People().addPerson(mary);
+        new People().addPerson(mary);
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.Before;
 public abstract class PetDomainForKata
 {
     protected MutableList<Person> people;
+    private People registry;
 
     @Before
     public void setUp() throws Exception
@@ -35,10 +36,11 @@ public abstract class PetDomainForKata
                         .addPet(PetType.HAMSTER, "Wuzzy", 1),
                 new Person("John", "Doe")
         );
+        this.registry = new People().addPeople(this.people);
     }
 
     public Person getPersonNamed(String fullName)
     {
-        return this.people.detectWith(Person::named, fullName);
+        return this.registry.getPersonNamed(fullName);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.petkata;
+
+import java.util.IntSummaryStatistics;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PetTableTest extends PetDomainForKata
+{
+    @Test
+    public void ageStatistics()
+    {
+        PetTable table = PetTable.of(this.people);
+        MutableIntList ages = this.people.flatCollect(Person::getPets).collectInt(Pet::getAge);
+
+        Assert.assertEquals(9, table.size());
+        Assert.assertEquals(ages.min(), table.minAge());
+        Assert.assertEquals(ages.max(), table.maxAge());
+        Assert.assertEquals(ages.sum(), table.sumOfAges());
+        Assert.assertEquals(ages.average(), table.averageAge(), 0.0);
+        PetTableTest.assertStatistics(ages.summaryStatistics(), table.ageStatistics());
+    }
+
+    @Test
+    public void ageStatisticsByType()
+    {
+        PetTable table = PetTable.of(this.people);
+        MutableMap<PetType, IntSummaryStatistics> statistics = table.ageStatisticsByType();
+        Assert.assertEquals(PetType.values().length, statistics.size());
+        for (PetType type : PetType.values())
+        {
+            IntSummaryStatistics expected = this.people
+                    .flatCollect(Person::getPets)
+                    .select(pet -> pet.getType() == type)
+                    .collectInt(Pet::getAge)
+                    .summaryStatistics();
+            PetTableTest.assertStatistics(expected, statistics.get(type));
+            PetTableTest.assertStatistics(expected, table.ageStatistics(type));
+        }
+    }
+
+    @Test
+    public void counts()
+    {
+        PetTable table = PetTable.of(this.people);
+        Assert.assertEquals(
+                this.people.flatCollect(Person::getPets).countBy(Pet::getType),
+                table.countByType());
+        Assert.assertEquals(5, table.countOlderThan(1));
+        Assert.assertEquals(0, table.countOlderThan(4));
+    }
+
+    @Test
+    public void rows()
+    {
+        PetTable table = PetTable.of(this.people);
+        Person bob = this.getPersonNamed("Bob Smith");
+        Assert.assertSame(bob, table.getOwner(1));
+        Assert.assertSame(bob, table.getOwner(2));
+        Assert.assertEquals(PetType.DOG, table.getType(2));
+        Assert.assertEquals(2, table.getAge(2));
+        Assert.assertSame(this.getPersonNamed("Harry Hamster"), table.getOwner(table.size() - 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rowOutOfBounds()
+    {
+        PetTable.of(this.people).getAge(9);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void minAgeOfEmptyTable()
+    {
+        new PetTable().addPets(this.getPersonNamed("John Doe")).minAge();
+    }
+
+    @Test
+    public void ageStatisticsOfEmptyTable()
+    {
+        PetTable table = new PetTable();
+        Assert.assertEquals(0L, table.ageStatistics().getCount());
+        Assert.assertTrue(table.ageStatisticsByType().isEmpty());
+    }
+
+    private static void assertStatistics(IntSummaryStatistics expected, IntSummaryStatistics actual)
+    {
+        Assert.assertEquals(expected.getCount(), actual.getCount());
+        Assert.assertEquals(expected.getSum(), actual.getSum());
+        Assert.assertEquals(expected.getMin(), actual.getMin());
+        Assert.assertEquals(expected.getMax(), actual.getMax());
+    }
+}
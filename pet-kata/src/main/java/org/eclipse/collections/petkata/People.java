@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.petkata;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+
+/**
+ * A registry of {@link Person}s in the order they were added, indexed by full name so that
+ * {@link #getPersonNamed(String)} is a hash lookup instead of a scan. Each person's full name is built once, when the
+ * person is added, and kept as the index key. When several people share a full name, the first one added is found.
+ * <p>
+ * People are also indexed by the types of pet they own, so the people owning a type of pet are found without testing
+ * every person. A person can only belong to one registry, and tells it about each type of pet they start to own.
+ */
+public class People
+{
+    private final MutableList<Person> people = FastList.newList();
+    private final MutableMap<String, Person> peopleByFullName = UnifiedMap.newMap();
+    private final MutableListMultimap<PetType, Person> peopleByPetType = FastListMultimap.newMultimap();
+    private ImmutableListMultimap<PetType, Person> peopleByTheirPets;
+
+    public People addPerson(Person person)
+    {
+        person.setPeople(this);
+        this.people.add(person);
+        this.peopleByFullName.getIfAbsentPut(person.getFullName(), person);
+        for (PetType petType : PetType.values())
+        {
+            if (person.hasPet(petType))
+            {
+                this.petTypeAdded(person, petType);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Called by {@link Person#addPet(PetType, String, int)} when a person gets their first pet of a type.
+     */
+    void petTypeAdded(Person person, PetType petType)
+    {
+        this.peopleByPetType.put(petType, person);
+        this.peopleByTheirPets = null;
+    }
+
+    public People addPeople(Iterable<? extends Person> people)
+    {
+        people.forEach(this::addPerson);
+        return this;
+    }
+
+    public Person getPersonNamed(String fullName)
+    {
+        return this.peopleByFullName.get(fullName);
+    }
+
+    /**
+     * Returns the people owning at least one pet of the given type, in the order they were added or got their first
+     * pet of that type.
+     */
+    public MutableList<Person> getPeopleWith(PetType petType)
+    {
+        return this.peopleByPetType.get(petType).asUnmodifiable();
+    }
+
+    public int countPeopleWith(PetType petType)
+    {
+        return this.peopleByPetType.get(petType).size();
+    }
+
+    /**
+     * Returns a copy of the index of people by the types of pet they own. The copy is cached until someone gets a new
+     * type of pet, so repeated calls return the same instance.
+     */
+    public ImmutableListMultimap<PetType, Person> getPeopleByTheirPets()
+    {
+        if (this.peopleByTheirPets == null)
+        {
+            this.peopleByTheirPets = this.peopleByPetType.toImmutable();
+        }
+        return this.peopleByTheirPets;
+    }
+
+    public MutableList<Person> getPeople()
+    {
+        return this.people.asUnmodifiable();
+    }
+
+    public int size()
+    {
+        return this.people.size();
+    }
+}